@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import java.util.Set;
+import java.util.TreeSet;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with 1, 2, 4, &hellip; threads up to the number of available processors.
+ *
+ * <p>Arguments are passed to JMH; if the thread count is given ({@code -t}) only that count is run.
+ */
+public final class BenchmarkMain {
+
+  public static void main(String... args) throws CommandLineOptionException, RunnerException {
+    CommandLineOptions options = new CommandLineOptions(args);
+
+    if (options.getThreads().hasValue()) {
+      new Runner(options).run();
+      return;
+    }
+
+    for (int threads : threadCounts(Runtime.getRuntime().availableProcessors())) {
+      new Runner(new OptionsBuilder().parent(options).threads(threads).build()).run();
+    }
+  }
+
+  private static Set<Integer> threadCounts(int processors) {
+    Set<Integer> counts = new TreeSet<>();
+    for (int threads = 1; threads < processors; threads <<= 1) {
+      counts.add(threads);
+    }
+    counts.add(processors);
+    return counts;
+  }
+
+  private BenchmarkMain() {
+    // utility class
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.ClockSupplier.systemDefaultZoneClockSupplier;
+import static io.sdavids.commons.time.ClockSupplier.systemUtcClockSupplier;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClockSupplierBenchmark {
+
+  @Param({"systemUtc", "systemDefaultZone", "fixed"})
+  String supplier;
+
+  Supplier<Clock> clockSupplier;
+
+  @Setup
+  public void setUp() {
+    switch (supplier) {
+      case "systemUtc":
+        clockSupplier = systemUtcClockSupplier();
+        break;
+      case "systemDefaultZone":
+        clockSupplier = systemDefaultZoneClockSupplier();
+        break;
+      case "fixed":
+        clockSupplier = fixedUtcClockSupplier(Instant.EPOCH);
+        break;
+      default:
+        throw new IllegalArgumentException(supplier);
+    }
+  }
+
+  @Benchmark
+  public Instant instant() {
+    return clockSupplier.get().instant();
+  }
+
+  @Benchmark
+  public long millis() {
+    return clockSupplier.get().millis();
+  }
+}
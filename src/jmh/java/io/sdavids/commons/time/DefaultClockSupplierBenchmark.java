@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.CACHED_PROPERTY_KEY;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Clock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@code ClockSupplier.getDefault().get()}.
+ *
+ * <p>The caching mode is evaluated once per JVM; JMH runs each parameter in a separate fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DefaultClockSupplierBenchmark {
+
+  @Param({"true", "false"})
+  String cached;
+
+  @Setup
+  public void setUp() {
+    System.setProperty(CACHED_PROPERTY_KEY, cached);
+  }
+
+  @Benchmark
+  public Clock getDefault_get() {
+    return ClockSupplier.getDefault().get();
+  }
+}
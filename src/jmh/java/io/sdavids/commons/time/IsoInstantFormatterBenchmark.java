@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IsoInstantFormatterBenchmark {
+
+  long epochMillis = 1_506_963_780_007L;
+
+  final byte[] array = new byte[IsoInstantFormatter.MILLIS_LENGTH];
+
+  final ByteBuffer buffer = ByteBuffer.allocateDirect(IsoInstantFormatter.MILLIS_LENGTH);
+
+  @Benchmark
+  public String instant_toString() {
+    return Instant.ofEpochMilli(epochMillis).toString();
+  }
+
+  @Benchmark
+  public void formatMillis_array(Blackhole blackhole) {
+    IsoInstantFormatter.formatMillis(epochMillis, array, 0);
+    blackhole.consume(array);
+  }
+
+  @Benchmark
+  public ByteBuffer formatMillis_direct_buffer() {
+    buffer.clear();
+    IsoInstantFormatter.formatMillis(epochMillis, buffer);
+    return buffer;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+  @Param({"tokenBucket", "striped"})
+  String limiter;
+
+  RateLimiter rateLimiter;
+
+  @Setup
+  public void setUp() {
+    // a rate the threads cannot exhaust, i.e. every acquisition succeeds
+    long permits = 1_000_000_000L;
+    Duration period = Duration.ofSeconds(1L);
+    long burst = 1_000_000L;
+
+    rateLimiter =
+        "striped".equals(limiter)
+            ? RateLimiter.striped(ClockSupplier.systemUtcClockSupplier(), permits, period, burst)
+            : RateLimiter.tokenBucket(
+                ClockSupplier.systemUtcClockSupplier(), permits, period, burst);
+  }
+
+  @Benchmark
+  public boolean tryAcquire() {
+    return rateLimiter.tryAcquire();
+  }
+}
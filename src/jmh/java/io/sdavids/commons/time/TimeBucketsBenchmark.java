@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeBucketsBenchmark {
+
+  static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+  final long[] epochMillis = new long[1_024];
+
+  final long[] buckets = new long[1_024];
+
+  TimeBuckets hours;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42L);
+    long now = 1_506_963_780_000L;
+    for (int i = 0; i < epochMillis.length; i++) {
+      epochMillis[i] = now + random.nextInt();
+    }
+    hours = TimeBuckets.hours(ZONE);
+  }
+
+  @Benchmark
+  public void truncatedTo(Blackhole blackhole) {
+    for (int i = 0; i < epochMillis.length; i++) {
+      buckets[i] =
+          Instant.ofEpochMilli(epochMillis[i]).atZone(ZONE).truncatedTo(HOURS).toEpochSecond();
+    }
+    blackhole.consume(buckets);
+  }
+
+  @Benchmark
+  public void bucket(Blackhole blackhole) {
+    for (int i = 0; i < epochMillis.length; i++) {
+      buckets[i] = hours.bucket(epochMillis[i]);
+    }
+    blackhole.consume(buckets);
+  }
+
+  @Benchmark
+  public void buckets_batch(Blackhole blackhole) {
+    hours.buckets(epochMillis, 0, buckets, 0, epochMillis.length);
+    blackhole.consume(buckets);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.Locale.US;
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * Supplies the current time formatted with second precision.
+ *
+ * <p>The formatted string is cached; it is only rebuilt when the second of the current time
+ * changes.
+ *
+ * <p>This class is thread-safe; no locks are used. Concurrent callers may format the same second
+ * more than once.
+ *
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class CachedTimestampFormatter implements Supplier<String> {
+
+  private static final DateTimeFormatter RFC_1123 =
+      DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", US).withZone(UTC);
+
+  private static final DateTimeFormatter ISO_INSTANT =
+      DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss'Z'", US).withZone(UTC);
+
+  private static final class Entry {
+
+    final long epochSecond;
+    final String text;
+
+    Entry(long epochSecond, String text) {
+      this.epochSecond = epochSecond;
+      this.text = text;
+    }
+  }
+
+  private final Supplier<Clock> clockSupplier;
+  private final DateTimeFormatter formatter;
+
+  private volatile Entry entry = new Entry(Long.MIN_VALUE, "");
+
+  private CachedTimestampFormatter(Supplier<Clock> clockSupplier, DateTimeFormatter formatter) {
+    this.clockSupplier = requireNonNull(clockSupplier, "clockSupplier");
+    this.formatter = formatter;
+  }
+
+  /**
+   * Creates a formatter supplying the current time in the format of the HTTP {@code Date} header,
+   * e.g. {@code Sun, 01 Jan 2017 00:00:00 GMT}.
+   *
+   * @param clockSupplier the supplier of the clocks the current time is read from, not null
+   * @return a new formatter
+   * @see <a href="https://tools.ietf.org/html/rfc7231#section-7.1.1.1">RFC 7231: Date/Time
+   *     Formats</a>
+   * @since 1.1
+   */
+  public static CachedTimestampFormatter rfc1123(Supplier<Clock> clockSupplier) {
+    return new CachedTimestampFormatter(clockSupplier, RFC_1123);
+  }
+
+  /**
+   * Creates a formatter supplying the current time in ISO-8601 UTC format, e.g. {@code
+   * 2017-01-01T00:00:00Z}.
+   *
+   * @param clockSupplier the supplier of the clocks the current time is read from, not null
+   * @return a new formatter
+   * @since 1.1
+   */
+  public static CachedTimestampFormatter isoInstant(Supplier<Clock> clockSupplier) {
+    return new CachedTimestampFormatter(clockSupplier, ISO_INSTANT);
+  }
+
+  /**
+   * Creates a formatter supplying the current time formatted by the given formatter.
+   *
+   * <p>The formatter should not print fractions of a second. If it has no override zone UTC is
+   * used.
+   *
+   * @param clockSupplier the supplier of the clocks the current time is read from, not null
+   * @param formatter the formatter, not null
+   * @return a new formatter
+   * @since 1.1
+   */
+  public static CachedTimestampFormatter create(
+      Supplier<Clock> clockSupplier, DateTimeFormatter formatter) {
+
+    requireNonNull(formatter, "formatter");
+
+    return new CachedTimestampFormatter(
+        clockSupplier, formatter.getZone() == null ? formatter.withZone(UTC) : formatter);
+  }
+
+  /**
+   * Returns the current time formatted with second precision.
+   *
+   * @return the formatted current time; never null
+   */
+  @Override
+  public String get() {
+    long epochSecond = Math.floorDiv(clockSupplier.get().millis(), 1_000L);
+
+    Entry current = entry;
+    if (current.epochSecond == epochSecond) {
+      return current.text;
+    }
+
+    String text = formatter.format(Instant.ofEpochSecond(epochSecond));
+
+    entry = new Entry(epochSecond, text);
+
+    return text;
+  }
+
+  @Override
+  public String toString() {
+    return "CachedTimestampFormatter(" + clockSupplier + ", " + formatter + ')';
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Listens for clock jumps detected by a {@link MonitoredClockSupplier}.
+ *
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+@FunctionalInterface
+public interface ClockJumpListener {
+
+  /**
+   * Called if a clock read deviates from the time expected from the elapsed {@link
+   * System#nanoTime()} by more than the threshold.
+   *
+   * <p>A negative difference {@code actualMillis - expectedMillis} is a backward step, a positive
+   * one a forward jump.
+   *
+   * @param expectedMillis the expected epoch milliseconds
+   * @param actualMillis the epoch milliseconds read from the clock
+   * @since 1.1
+   */
+  void clockJumped(long expectedMillis, long actualMillis);
+}
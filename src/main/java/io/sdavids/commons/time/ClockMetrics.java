@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.ServiceLoader.load;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.apiguardian.api.API;
+
+/**
+ * The metrics of a metered clock supplier.
+ *
+ * <p>The counters are striped, i.e. updating them scales with the number of threads; reading them
+ * is not atomic with respect to concurrent updates.
+ *
+ * <p>A regression is counted if a clock of the supplier returns an earlier time than the latest
+ * time read before by the same thread; reads of different threads are not ordered with respect to
+ * each other.
+ *
+ * @see ClockSupplier#metered(java.util.function.Supplier, String)
+ * @see ClockSupplier#unregisterMetrics(java.util.function.Supplier)
+ * @see ClockMetricsSink
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class ClockMetrics implements ClockMetricsMBean {
+
+  /**
+   * The domain and type of the object names the metrics are registered as; the {@code name} key is
+   * the quoted name of the metered clock supplier.
+   *
+   * @since 1.1
+   */
+  public static final String OBJECT_NAME_PREFIX = "io.sdavids.commons.time:type=ClockMetrics";
+
+  private final String name;
+
+  private final LongAdder invocations = new LongAdder();
+  private final LongAdder regressions = new LongAdder();
+  private final LongAdder resolutions = new LongAdder();
+  private final LongAdder resolutionNanos = new LongAdder();
+
+  private final ThreadLocal<long[]> latestMillis =
+      ThreadLocal.withInitial(() -> new long[] {Long.MIN_VALUE});
+
+  private final List<ClockMetricsSink> sinks = new CopyOnWriteArrayList<>();
+
+  private final AtomicBoolean published = new AtomicBoolean();
+
+  ClockMetrics(String name) {
+    this.name = name;
+  }
+
+  static ClockMetrics publish(String name) {
+    ClockMetrics metrics = new ClockMetrics(name);
+
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName(name));
+    } catch (InstanceAlreadyExistsException e) {
+      throw new IllegalArgumentException("name already in use: " + name, e);
+    } catch (JMException e) {
+      throw new IllegalStateException("cannot register the metrics of " + name, e);
+    }
+    metrics.published.set(true);
+
+    try {
+      for (ClockMetricsSink sink : load(ClockMetricsSink.class)) {
+        try {
+          sink.register(metrics);
+          metrics.sinks.add(sink);
+        } catch (RuntimeException e) {
+          // a broken sink must not break the clock
+        }
+      }
+    } catch (ServiceConfigurationError e) {
+      // a broken sink must not break the clock
+    }
+
+    return metrics;
+  }
+
+  void unpublish() {
+    if (!published.compareAndSet(true, false)) {
+      return;
+    }
+
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name));
+    } catch (JMException | SecurityException e) {
+      // e.g. unregistered by someone else
+    }
+
+    for (ClockMetricsSink sink : sinks) {
+      try {
+        sink.unregister(this);
+      } catch (RuntimeException e) {
+        // a broken sink must not break the clock
+      }
+    }
+    sinks.clear();
+  }
+
+  private static ObjectName objectName(String name) {
+    try {
+      return new ObjectName(OBJECT_NAME_PREFIX + ",name=" + ObjectName.quote(name));
+    } catch (MalformedObjectNameException e) {
+      // a quoted value is always valid
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  void invoked() {
+    invocations.increment();
+  }
+
+  void read(long millis) {
+    long[] latest = latestMillis.get();
+    if (millis < latest[0]) {
+      regressions.increment();
+    } else {
+      latest[0] = millis;
+    }
+  }
+
+  void resolved(long nanos) {
+    resolutions.increment();
+    resolutionNanos.add(nanos);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public long getInvocations() {
+    return invocations.sum();
+  }
+
+  @Override
+  public long getRegressions() {
+    return regressions.sum();
+  }
+
+  @Override
+  public long getResolutions() {
+    return resolutions.sum();
+  }
+
+  @Override
+  public long getResolutionNanos() {
+    return resolutionNanos.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "ClockMetrics("
+        + name
+        + ", invocations="
+        + getInvocations()
+        + ", regressions="
+        + getRegressions()
+        + ", resolutions="
+        + getResolutions()
+        + ')';
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Management interface of the metrics of a metered clock supplier.
+ *
+ * @see ClockMetrics
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public interface ClockMetricsMBean {
+
+  /**
+   * Returns the name of the metered clock supplier.
+   *
+   * @return the name
+   * @since 1.1
+   */
+  String getName();
+
+  /**
+   * Returns the number of clocks obtained from the metered clock supplier.
+   *
+   * @return the number of {@code get()} invocations
+   * @since 1.1
+   */
+  long getInvocations();
+
+  /**
+   * Returns the number of times a clock of the metered clock supplier went backward.
+   *
+   * @return the number of clock regressions
+   * @since 1.1
+   */
+  long getRegressions();
+
+  /**
+   * Returns the number of {@code ServiceLoader} lookups of the default clock supplier.
+   *
+   * @return the number of provider resolutions; zero for suppliers other than the default
+   * @since 1.1
+   */
+  long getResolutions();
+
+  /**
+   * Returns the total time spent on {@code ServiceLoader} lookups of the default clock supplier.
+   *
+   * @return the provider resolution time in nanoseconds; zero for suppliers other than the default
+   * @since 1.1
+   */
+  long getResolutionNanos();
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Exports the metrics of metered clock suppliers.
+ *
+ * <p>Implementations are obtained by the {@code ServiceLoader} and need a public no-argument
+ * constructor. Every sink is passed the metrics of every metered clock supplier once, when the
+ * supplier is created; the counters are read whenever the sink exports them. The metrics are also
+ * registered with the platform MBean server.
+ *
+ * @see ClockSupplier#metered(java.util.function.Supplier, String)
+ * @see java.util.ServiceLoader
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public interface ClockMetricsSink {
+
+  /**
+   * Registers the metrics of a metered clock supplier.
+   *
+   * <p>Exceptions thrown by this method are ignored.
+   *
+   * @param metrics the metrics, not null
+   * @since 1.1
+   */
+  void register(ClockMetrics metrics);
+
+  /**
+   * Unregisters the metrics of a metered clock supplier passed to {@link #register(ClockMetrics)}
+   * before.
+   *
+   * <p>Exceptions thrown by this method are ignored.
+   *
+   * @param metrics the metrics, not null
+   * @see ClockSupplier#unregisterMetrics(java.util.function.Supplier)
+   * @since 1.1
+   */
+  default void unregister(ClockMetrics metrics) {
+    // nothing to release by default
+  }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.PrimitiveClocks.NANOS_PER_MILLI;
+import static io.sdavids.commons.time.PrimitiveClocks.NANOS_PER_SECOND;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+import org.apiguardian.api.API;
+
+/**
+ * Estimates the offset of a local clock from a reference time source and publishes a corrected
+ * clock supplier.
+ *
+ * <p>Each {@link #sample()} queries the reference several times and keeps the query with the
+ * shortest round trip, which has the smallest error; its offset is smoothed by an exponentially
+ * weighted moving average.
+ *
+ * <p>The corrected clocks add an offset to the local time. The first estimate is applied at once,
+ * i.e. the first sample steps the time, which is why the {@link #clockSupplier() corrected clock
+ * supplier} is only available after it. Later estimates are slewed: the applied offset moves
+ * towards the estimate by at most the slew rate, i.e. the corrected time never steps and never goes
+ * backward if the local clock does not. A read costs a volatile load and a few arithmetic
+ * operations.
+ *
+ * <p>Sampling is up to the caller, e.g. calling {@link #sample()} once and then scheduling it once
+ * a minute.
+ *
+ * <p>This class is thread-safe; samples are serialized.
+ *
+ * @see <a href="https://tools.ietf.org/html/rfc5905">RFC 5905: Network Time Protocol Version 4</a>
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class ClockOffsetEstimator {
+
+  private static final int DEFAULT_SAMPLES_PER_ROUND = 4;
+
+  private static final double DEFAULT_SMOOTHING = 0.25d;
+
+  private static final long DEFAULT_SLEW_PPM = 500L;
+
+  private static final long PPM = 1_000_000L;
+
+  /*
+   * The applied offset moves linearly from startOffset towards targetOffset at slewPpm, starting
+   * at the monotonic time startNanos.
+   */
+  private static final class Correction {
+
+    final long startOffset;
+    final long targetOffset;
+    final long startNanos;
+    final long slewPpm;
+
+    Correction(long startOffset, long targetOffset, long startNanos, long slewPpm) {
+      this.startOffset = startOffset;
+      this.targetOffset = targetOffset;
+      this.startNanos = startNanos;
+      this.slewPpm = slewPpm;
+    }
+
+    long offsetAt(long monotonicNanos) {
+      long remaining = targetOffset - startOffset;
+      if (remaining == 0L) {
+        return targetOffset;
+      }
+
+      long elapsed = Math.max(monotonicNanos - startNanos, 0L);
+      // elapsed * slewPpm / PPM without overflow
+      long slewed = elapsed / PPM * slewPpm + elapsed % PPM * slewPpm / PPM;
+
+      if (remaining > 0L) {
+        return slewed >= remaining ? targetOffset : startOffset + slewed;
+      }
+      return slewed >= -remaining ? targetOffset : startOffset - slewed;
+    }
+  }
+
+  private static final class Estimate {
+
+    final long offsetNanos;
+    final long roundTripNanos;
+    final Correction correction;
+
+    Estimate(long offsetNanos, long roundTripNanos, Correction correction) {
+      this.offsetNanos = offsetNanos;
+      this.roundTripNanos = roundTripNanos;
+      this.correction = correction;
+    }
+  }
+
+  private static final class CorrectedClock extends Clock implements PrimitiveClock {
+
+    private final ZoneId zone;
+    private final ClockOffsetEstimator estimator;
+
+    CorrectedClock(ZoneId zone, ClockOffsetEstimator estimator) {
+      this.zone = zone;
+      this.estimator = estimator;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      requireNonNull(zone, "zone");
+
+      return zone.equals(this.zone) ? this : new CorrectedClock(zone, estimator);
+    }
+
+    @Override
+    public long millis() {
+      return floorDiv(estimator.correctedEpochNanos(), NANOS_PER_MILLI);
+    }
+
+    @Override
+    public Instant instant() {
+      long epochNanos = estimator.correctedEpochNanos();
+
+      return Instant.ofEpochSecond(
+          floorDiv(epochNanos, NANOS_PER_SECOND), floorMod(epochNanos, NANOS_PER_SECOND));
+    }
+
+    @Override
+    public long epochMillis() {
+      return millis();
+    }
+
+    @Override
+    public long epochMicros() {
+      return floorDiv(estimator.correctedEpochNanos(), 1_000L);
+    }
+
+    @Override
+    public long epochNanos() {
+      return estimator.correctedEpochNanos();
+    }
+
+    @Override
+    public long monotonicNanos() {
+      return estimator.local.monotonicNanos();
+    }
+
+    @Override
+    public boolean equals(@CheckForNull Object obj) {
+      if (!(obj instanceof CorrectedClock)) {
+        return false;
+      }
+
+      CorrectedClock other = (CorrectedClock) obj;
+
+      return zone.equals(other.zone) && estimator == other.estimator;
+    }
+
+    @Override
+    public int hashCode() {
+      return zone.hashCode() + 7;
+    }
+
+    @Override
+    public String toString() {
+      return "CorrectedClock[" + zone + ']';
+    }
+  }
+
+  private final Supplier<Clock> localSupplier;
+  private final PrimitiveClock local;
+  private final ReferenceTimeSource reference;
+  private final int samplesPerRound;
+  private final double smoothing;
+  private final long slewPpm;
+
+  private final Object lock = new Object();
+
+  @Nullable private volatile Estimate estimate;
+
+  // created by the first sample
+  @Nullable private volatile CorrectedClock clock;
+
+  private ClockOffsetEstimator(
+      Supplier<Clock> localSupplier,
+      ReferenceTimeSource reference,
+      int samplesPerRound,
+      double smoothing,
+      long slewPpm) {
+
+    this.localSupplier = localSupplier;
+    this.reference = reference;
+    this.samplesPerRound = samplesPerRound;
+    this.smoothing = smoothing;
+    this.slewPpm = slewPpm;
+
+    local = PrimitiveClock.of(localSupplier);
+  }
+
+  /**
+   * Creates an estimator.
+   *
+   * <p>Each sample queries the reference four times; estimates are smoothed with a weight of 0.25
+   * and slewed at 500ppm.
+   *
+   * @param localSupplier the supplier of the local clocks, not null
+   * @param reference the reference time source, not null
+   * @return a new estimator
+   * @since 1.1
+   */
+  public static ClockOffsetEstimator create(
+      Supplier<Clock> localSupplier, ReferenceTimeSource reference) {
+
+    return create(
+        localSupplier, reference, DEFAULT_SAMPLES_PER_ROUND, DEFAULT_SMOOTHING, DEFAULT_SLEW_PPM);
+  }
+
+  /**
+   * Creates an estimator.
+   *
+   * @param localSupplier the supplier of the local clocks, not null
+   * @param reference the reference time source, not null
+   * @param samplesPerRound the number of queries per sample, the one with the shortest round trip
+   *     is used
+   * @param smoothing the weight of a new offset in the moving average, greater than 0 and at most 1
+   * @param slewPpm the maximum rate at which the applied offset changes, in parts per million,
+   *     greater than 0 and less than 1,000,000
+   * @return a new estimator
+   * @throws IllegalArgumentException if an argument is out of range
+   * @since 1.1
+   */
+  public static ClockOffsetEstimator create(
+      Supplier<Clock> localSupplier,
+      ReferenceTimeSource reference,
+      int samplesPerRound,
+      double smoothing,
+      long slewPpm) {
+
+    requireNonNull(localSupplier, "localSupplier");
+    requireNonNull(reference, "reference");
+
+    if (samplesPerRound < 1) {
+      throw new IllegalArgumentException("samplesPerRound must be positive: " + samplesPerRound);
+    }
+    if (!(smoothing > 0.0d && smoothing <= 1.0d)) {
+      throw new IllegalArgumentException("smoothing must be in (0, 1]: " + smoothing);
+    }
+    // at 1,000,000ppm or more a negative correction would make the corrected clock go backward
+    if (slewPpm < 1L || slewPpm >= PPM) {
+      throw new IllegalArgumentException("slewPpm must be in [1, " + (PPM - 1L) + "]: " + slewPpm);
+    }
+
+    return new ClockOffsetEstimator(localSupplier, reference, samplesPerRound, smoothing, slewPpm);
+  }
+
+  /**
+   * Samples the reference and updates the estimate.
+   *
+   * <p>The first estimate is applied at once and makes the {@link #clockSupplier() corrected clock
+   * supplier} available.
+   *
+   * @return the smoothed offset in nanoseconds, i.e. the reference time minus the local time
+   * @throws IOException if the reference cannot be queried
+   * @since 1.1
+   */
+  public long sample() throws IOException {
+    synchronized (lock) {
+      return sampleLocked();
+    }
+  }
+
+  private long sampleLocked() throws IOException {
+    long bestOffset = 0L;
+    long bestRoundTrip = Long.MAX_VALUE;
+
+    for (int i = 0; i < samplesPerRound; i++) {
+      long start = local.monotonicNanos();
+      long localEpochNanos = local.epochNanos();
+
+      long referenceEpochNanos = reference.epochNanos();
+
+      long roundTrip = local.monotonicNanos() - start;
+      if (roundTrip < bestRoundTrip) {
+        bestRoundTrip = roundTrip;
+        bestOffset = referenceEpochNanos - (localEpochNanos + roundTrip / 2L);
+      }
+    }
+
+    long now = local.monotonicNanos();
+
+    Estimate previous = estimate;
+
+    Estimate next;
+    if (previous == null) {
+      next =
+          new Estimate(
+              bestOffset, bestRoundTrip, new Correction(bestOffset, bestOffset, now, slewPpm));
+    } else {
+      long smoothed =
+          previous.offsetNanos + Math.round(smoothing * (bestOffset - previous.offsetNanos));
+
+      next =
+          new Estimate(
+              smoothed,
+              bestRoundTrip,
+              new Correction(previous.correction.offsetAt(now), smoothed, now, slewPpm));
+    }
+
+    estimate = next;
+
+    if (clock == null) {
+      clock = new CorrectedClock(localSupplier.get().getZone(), this);
+    }
+
+    return next.offsetNanos;
+  }
+
+  /**
+   * Returns the smoothed offset.
+   *
+   * @return the offset in nanoseconds, i.e. the reference time minus the local time; zero if not
+   *     sampled yet
+   * @since 1.1
+   */
+  public long offsetNanos() {
+    Estimate current = estimate;
+
+    return current == null ? 0L : current.offsetNanos;
+  }
+
+  /**
+   * Returns the shortest round trip of the latest sample.
+   *
+   * @return the round trip in nanoseconds; zero if not sampled yet
+   * @since 1.1
+   */
+  public long roundTripNanos() {
+    Estimate current = estimate;
+
+    return current == null ? 0L : current.roundTripNanos;
+  }
+
+  /**
+   * Returns the offset currently applied by the corrected clocks.
+   *
+   * @return the applied offset in nanoseconds; zero if not sampled yet
+   * @since 1.1
+   */
+  public long appliedOffsetNanos() {
+    Estimate current = estimate;
+
+    return current == null ? 0L : current.correction.offsetAt(local.monotonicNanos());
+  }
+
+  /**
+   * Returns a supplier of clocks returning the local time corrected by the applied offset.
+   *
+   * <p>The same clock instance is returned by every call; it has the time-zone of the local clock
+   * at the first sample and implements {@link PrimitiveClock}.
+   *
+   * @return the corrected clock supplier
+   * @throws IllegalStateException if not sampled yet
+   * @since 1.1
+   */
+  public Supplier<Clock> clockSupplier() {
+    CorrectedClock corrected = clock;
+    if (corrected == null) {
+      throw new IllegalStateException("not sampled yet");
+    }
+
+    return new Supplier<Clock>() {
+      @Override
+      public Clock get() {
+        return corrected;
+      }
+
+      @Override
+      public String toString() {
+        return ClockOffsetEstimator.this + ".clockSupplier()";
+      }
+    };
+  }
+
+  long correctedEpochNanos() {
+    Estimate current = estimate;
+    long epochNanos = local.epochNanos();
+
+    return current == null
+        ? epochNanos
+        : epochNanos + current.correction.offsetAt(local.monotonicNanos());
+  }
+
+  @Override
+  public String toString() {
+    return "ClockOffsetEstimator(" + localSupplier + ", " + reference + ')';
+  }
+}
@@ -18,18 +18,31 @@
 import static java.security.AccessController.doPrivileged;
 import static java.util.Objects.requireNonNull;
 import static java.util.ServiceLoader.load;
+import static java.util.logging.Level.WARNING;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
 import java.security.PrivilegedAction;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 import org.apiguardian.api.API;
 
 /**
@@ -47,6 +60,12 @@ public abstract class ClockSupplier implements Supplier<Clock> {
 
   static final String CACHED_PROPERTY_KEY = "io.sdavids.commons.time.clock.supplier.default.cached";
 
+  static final String SWAPPABLE_PROPERTY_KEY =
+      "io.sdavids.commons.time.clock.supplier.default.swappable";
+
+  static final String METRICS_PROPERTY_KEY =
+      "io.sdavids.commons.time.clock.supplier.default.metrics";
+
   private enum SystemUtcClockSupplier implements Supplier<Clock> {
     INSTANCE;
 
@@ -75,6 +94,20 @@ public Clock get() {
     }
   }
 
+  private enum MonotonicUtcClockSupplier implements Supplier<Clock> {
+    INSTANCE;
+
+    @Override
+    public String toString() {
+      return "ClockSupplier.monotonicUtcClockSupplier()";
+    }
+
+    @Override
+    public Clock get() {
+      return MonotonicClock.UTC;
+    }
+  }
+
   private static final class FixedClockSupplier implements Supplier<Clock>, Serializable {
 
     private static final long serialVersionUID = 1662342342420281297L;
@@ -118,53 +151,378 @@ private void readObject(ObjectInputStream stream) throws IOException, ClassNotFo
     }
   }
 
-  private static final class NonCachingUuidSupplier implements Supplier<Clock>, Serializable {
+  private static final class CoarseUtcClockSupplier implements Supplier<Clock> {
 
-    private static final long serialVersionUID = 937273036612993297L;
+    private final Duration resolution;
 
-    private volatile String supplierClassName = "unitialized - call get() first";
+    CoarseUtcClockSupplier(Duration resolution) {
+      requireNonNull(resolution, "resolution");
+      if (resolution.compareTo(Duration.ofMillis(1L)) < 0) {
+        throw new IllegalArgumentException("resolution must be at least one millisecond");
+      }
+      this.resolution = resolution;
+
+      CoarseClock.register(resolution);
+    }
+
+    @Override
+    public String toString() {
+      return "ClockSupplier.coarseUtcClockSupplier(" + resolution + ')';
+    }
 
     @Override
     public Clock get() {
+      return CoarseClock.UTC;
+    }
+  }
+
+  private static final class ScaledClockSupplier implements Supplier<Clock> {
+
+    private final Supplier<Clock> base;
+    private final double rate;
+    private final Instant origin;
+    private final ScaledClock clock;
+
+    ScaledClockSupplier(Supplier<Clock> base, double rate, Instant origin) {
+      this.base = requireNonNull(base, "base");
+      this.origin = requireNonNull(origin, "origin");
+      if (rate <= 0.0d || !Double.isFinite(rate)) {
+        throw new IllegalArgumentException("rate must be positive and finite: " + rate);
+      }
+      this.rate = rate;
+
+      clock =
+          new ScaledClock(
+              base.get().getZone(),
+              new ScaledClock.Source(
+                  primitiveClock(base), rate, PrimitiveClocks.toEpochNanos(origin)));
+    }
+
+    @Override
+    public String toString() {
+      return "ClockSupplier.scaledClockSupplier(" + base + ", " + rate + ", " + origin + ')';
+    }
+
+    @Override
+    public Clock get() {
+      return clock;
+    }
+  }
+
+  private static final class MeteredClockSupplier implements Supplier<Clock> {
+
+    private final Supplier<Clock> delegate;
+    private final ClockMetrics metrics;
+
+    @Nullable private volatile MeteredClock clock;
+
+    MeteredClockSupplier(Supplier<Clock> delegate, ClockMetrics metrics) {
+      this.delegate = delegate;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public Clock get() {
+      metrics.invoked();
+
+      Clock current = delegate.get();
+
+      MeteredClock metered = clock;
+      // Clock.systemUTC() returns a new, equal instance on every call on Java 8
+      if (metered == null || !metered.delegate().equals(current)) {
+        metered = new MeteredClock(current, metrics);
+        clock = metered;
+      }
+      return metered;
+    }
+
+    @Override
+    public String toString() {
+      return "ClockSupplier.metered(" + delegate + ", " + metrics.getName() + ')';
+    }
+  }
+
+  private static final class ProviderRegistry {
+
+    @Nullable static volatile ClockMetrics metrics;
+
+    private static final class Resolution {
+
+      final WeakReference<ClassLoader> contextClassLoader;
+      final Supplier<Clock> supplier;
+
+      Resolution(@Nullable ClassLoader contextClassLoader, Supplier<Clock> supplier) {
+        this.contextClassLoader = new WeakReference<>(contextClassLoader);
+        this.supplier = supplier;
+      }
+    }
+
+    @Nullable private volatile Resolution resolution;
+
+    static Supplier<Clock> resolve(boolean cached) {
+      long start = System.nanoTime();
+
       Iterator<ClockSupplier> providers = load(ClockSupplier.class).iterator();
 
       Supplier<Clock> supplier =
           providers.hasNext() ? providers.next() : SystemUtcClockSupplier.INSTANCE;
 
-      supplierClassName = supplier.getClass().getName();
+      long scanNanos = System.nanoTime() - start;
+
+      ClockMetrics current = metrics;
+      if (current != null) {
+        current.resolved(scanNanos);
+      }
+
+      ClockSupplierEvents.resolved(supplier, scanNanos, cached);
+      if (!cached) {
+        ClockSupplierEvents.lookup(scanNanos);
+      }
+
+      return supplier;
+    }
+
+    Supplier<Clock> get() {
+      ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+      Resolution current = resolution;
+      if (current == null || current.contextClassLoader.get() != contextClassLoader) {
+        current = new Resolution(contextClassLoader, resolve(false));
+        resolution = current;
+      }
+
+      return current.supplier;
+    }
+
+    void reload() {
+      resolution = new Resolution(Thread.currentThread().getContextClassLoader(), resolve(false));
+    }
+
+    String describe() {
+      Resolution current = resolution;
+
+      return current == null
+          ? "unitialized - call get() first"
+          : current.supplier.getClass().getName();
+    }
+  }
+
+  private static final class NonCachingUuidSupplier implements Supplier<Clock>, Serializable {
+
+    private static final long serialVersionUID = 937273036612993297L;
+
+    private static final ProviderRegistry REGISTRY = new ProviderRegistry();
+
+    @Override
+    public Clock get() {
+      ClockSupplierEvents.nonCachingGet();
+
+      return REGISTRY.get().get();
+    }
 
-      return supplier.get();
+    void reload() {
+      REGISTRY.reload();
     }
 
     @Override
     public String toString() {
-      return "NonCachingUuidSupplier(" + supplierClassName + ')';
+      return "NonCachingUuidSupplier(" + REGISTRY.describe() + ')';
+    }
+  }
+
+  private static final class SwappableSupplier
+      implements Supplier<Clock>, DefaultClockSupplierMBean {
+
+    private final Supplier<Clock> initial;
+
+    private final Object lock = new Object();
+
+    private volatile Supplier<Clock> delegate;
+
+    SwappableSupplier(Supplier<Clock> initial) {
+      this.initial = initial;
+      delegate = initial;
+    }
+
+    @Override
+    public Clock get() {
+      return delegate.get();
+    }
+
+    Supplier<Clock> install(UnaryOperator<Supplier<Clock>> wrapper) {
+      synchronized (lock) {
+        Supplier<Clock> previous = delegate;
+
+        Supplier<Clock> supplier = requireNonNull(wrapper.apply(previous), "supplier");
+        if (isDefault(supplier)) {
+          throw new IllegalArgumentException("supplier must not be the default instance");
+        }
+
+        delegate = rebase(supplier, previous);
+
+        return previous;
+      }
+    }
+
+    /*
+     * A scaled supplier of the default instance would read its own clock; it is based on the
+     * supplier installed before instead.
+     */
+    private static Supplier<Clock> rebase(Supplier<Clock> supplier, Supplier<Clock> previous) {
+      if (supplier instanceof ScaledClockSupplier) {
+        ScaledClockSupplier scaled = (ScaledClockSupplier) supplier;
+        if (isDefault(scaled.base)) {
+          return new ScaledClockSupplier(previous, scaled.rate, scaled.origin);
+        }
+      }
+      return supplier;
+    }
+
+    @Override
+    public String getSupplier() {
+      return delegate.toString();
+    }
+
+    @Override
+    public void installFixed(String instant) {
+      Supplier<Clock> supplier = fixedUtcClockSupplier(Instant.parse(instant));
+
+      install(previous -> supplier);
+    }
+
+    @Override
+    public void installOffset(long offsetMillis) {
+      Duration offset = Duration.ofMillis(offsetMillis);
+
+      install(
+          previous ->
+              new Supplier<Clock>() {
+                @Override
+                public Clock get() {
+                  return Clock.offset(previous.get(), offset);
+                }
+
+                @Override
+                public String toString() {
+                  return "DefaultClockSupplierMBean.installOffset("
+                      + previous
+                      + ", "
+                      + offsetMillis
+                      + ')';
+                }
+              });
+    }
+
+    @Override
+    public void installScaled(double rate) {
+      install(previous -> scaledClockSupplier(previous, rate, previous.get().instant()));
+    }
+
+    @Override
+    public void restore() {
+      synchronized (lock) {
+        delegate = initial;
+      }
+    }
+
+    void register() {
+      try {
+        ManagementFactory.getPlatformMBeanServer()
+            .registerMBean(
+                new StandardMBean(this, DefaultClockSupplierMBean.class),
+                new ObjectName(OBJECT_NAME));
+      } catch (JMException | SecurityException e) {
+        // the supplier can still be swapped programmatically
+        Logger.getLogger(ClockSupplier.class.getName())
+            .log(WARNING, "cannot register the MBean " + OBJECT_NAME, e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "SwappableSupplier(" + delegate + ')';
     }
   }
 
   private static final class SingletonHolder {
 
     private static Supplier<Clock> initialize() {
-      String cached = getCachedSystemProperty();
+      ClockMetrics metrics = null;
+      if (Boolean.parseBoolean(getSystemProperty(METRICS_PROPERTY_KEY))) {
+        try {
+          metrics = ClockMetrics.publish("default");
+          ProviderRegistry.metrics = metrics;
+        } catch (IllegalArgumentException | IllegalStateException | SecurityException e) {
+          Logger.getLogger(ClockSupplier.class.getName())
+              .log(WARNING, "cannot register the metrics of the default instance", e);
+        }
+      }
 
-      if (cached == null || Boolean.parseBoolean(cached)) {
-        Iterator<ClockSupplier> providers = load(ClockSupplier.class).iterator();
+      Supplier<Clock> supplier = initializeProvider();
 
-        return providers.hasNext() ? providers.next() : SystemUtcClockSupplier.INSTANCE;
+      if (Boolean.parseBoolean(getSystemProperty(SWAPPABLE_PROPERTY_KEY))) {
+        SwappableSupplier swappable = new SwappableSupplier(supplier);
+        swappable.register();
+        supplier = swappable;
       }
 
-      return new NonCachingUuidSupplier();
+      return metrics == null ? supplier : new MeteredClockSupplier(supplier, metrics);
     }
 
-    private static String getCachedSystemProperty() {
+    private static Supplier<Clock> initializeProvider() {
+      String cached = getSystemProperty(CACHED_PROPERTY_KEY);
+
+      if (cached == null || Boolean.parseBoolean(cached)) {
+        return ProviderRegistry.resolve(true);
+      }
+
+      NonCachingUuidSupplier supplier = new NonCachingUuidSupplier();
+
+      ClockSupplierEvents.resolved(supplier, 0L, false);
+
+      return supplier;
+    }
+
+    private static String getSystemProperty(String key) {
       return System.getSecurityManager() == null
-          ? System.getProperty(CACHED_PROPERTY_KEY)
-          : doPrivileged((PrivilegedAction<String>) () -> System.getProperty(CACHED_PROPERTY_KEY));
+          ? System.getProperty(key)
+          : doPrivileged((PrivilegedAction<String>) () -> System.getProperty(key));
     }
 
     static final Supplier<Clock> INSTANCE = initialize();
   }
 
+  private static Supplier<Clock> unmetered(Supplier<Clock> supplier) {
+    return supplier instanceof MeteredClockSupplier
+        ? ((MeteredClockSupplier) supplier).delegate
+        : supplier;
+  }
+
+  static PrimitiveClock primitiveClock(Supplier<Clock> supplier) {
+    if (supplier == SystemUtcClockSupplier.INSTANCE) {
+      return PrimitiveClocks.SystemPrimitiveClock.UTC;
+    }
+    if (supplier == SystemDefaultZoneClockSupplier.INSTANCE) {
+      return PrimitiveClocks.SystemPrimitiveClock.DEFAULT_ZONE;
+    }
+    if (supplier instanceof FixedClockSupplier) {
+      return new PrimitiveClocks.FixedPrimitiveClock(((FixedClockSupplier) supplier).fixedInstant);
+    }
+    if (supplier instanceof CoarseUtcClockSupplier) {
+      return CoarseClock.UTC;
+    }
+    if (supplier == MonotonicUtcClockSupplier.INSTANCE) {
+      return MonotonicClock.UTC;
+    }
+    if (supplier instanceof VirtualClockSupplier) {
+      return ((VirtualClockSupplier) supplier).primitiveClock();
+    }
+    if (supplier instanceof ScaledClockSupplier) {
+      return ((ScaledClockSupplier) supplier).clock;
+    }
+    return new PrimitiveClocks.ClockAdapter(supplier);
+  }
+
   /**
    * Obtains the default instance of the clock supplier.
    *
@@ -176,6 +534,23 @@ private static String getCachedSystemProperty() {
    * io.sdavids.commons.time.clock.supplier.default.cached} to {@code false}. <em>Note:</em> The
    * system property is evaluated once, i.e. caching cannot be dynamically enabled/disabled.
    *
+   * <p>If caching is turned off the {@code ServiceLoader} is consulted again whenever the calling
+   * thread's context class loader differs from the one used for the previous lookup, or when {@link
+   * #reloadDefault()} is called.
+   *
+   * <p>In order to be able to replace the default clock at runtime set the system property {@code
+   * io.sdavids.commons.time.clock.supplier.default.swappable} to {@code true}. The returned
+   * supplier then delegates to a supplier held in a volatile field, which is replaced by {@link
+   * #install(Supplier)} or the {@link DefaultClockSupplierMBean}. <em>Note:</em> The system
+   * property is evaluated once.
+   *
+   * <p>In order to collect {@link ClockMetrics} for the default instance set the system property
+   * {@code io.sdavids.commons.time.clock.supplier.default.metrics} to {@code true}. The default
+   * instance is then {@link #metered(Supplier, String) metered} under the name {@code default}, and
+   * the time spent on {@code ServiceLoader} lookups is recorded. If the name is already in use,
+   * e.g. by another copy of this library, a warning is logged and the default instance is not
+   * metered.
+   *
    * @return some Clock supplier; never null
    * @see #systemUtcClockSupplier()
    * @since 1.0
@@ -184,6 +559,90 @@ public static Supplier<Clock> getDefault() {
     return SingletonHolder.INSTANCE;
   }
 
+  /**
+   * Discards the provider resolved by the default instance and obtains it anew from the {@code
+   * ServiceLoader}.
+   *
+   * <p>This method has no effect if the default instance is cached.
+   *
+   * @see #getDefault()
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public static void reloadDefault() {
+    Supplier<Clock> supplier = unmetered(getDefault());
+    if (supplier instanceof SwappableSupplier) {
+      supplier = ((SwappableSupplier) supplier).initial;
+    }
+    if (supplier instanceof NonCachingUuidSupplier) {
+      ((NonCachingUuidSupplier) supplier).reload();
+    }
+  }
+
+  /**
+   * Replaces the clock supplier the default instance delegates to.
+   *
+   * <p>The default instance, i.e. the supplier returned by {@link #getDefault()}, stays the same;
+   * its clocks are obtained from the installed supplier from now on, e.g. components holding the
+   * default instance switch to a {@link VirtualClockSupplier} without a restart.
+   *
+   * <p>A {@link #scaledClockSupplier(Supplier, double, Instant) scaled clock supplier} of the
+   * default instance is based on the previously installed clock supplier; other wrappers of the
+   * default instance have to be installed with {@link #installWrapper(UnaryOperator)}.
+   *
+   * @param supplier the clock supplier to install, not null
+   * @return the previously installed clock supplier
+   * @throws IllegalStateException if the default instance is not swappable
+   * @throws IllegalArgumentException if {@code supplier} is the default instance
+   * @see #getDefault()
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public static Supplier<Clock> install(Supplier<Clock> supplier) {
+    requireNonNull(supplier, "supplier");
+
+    return swappable().install(previous -> supplier);
+  }
+
+  /**
+   * Replaces the clock supplier the default instance delegates to by a wrapper of the currently
+   * installed clock supplier.
+   *
+   * <p>Wrappers must not obtain their clocks from the default instance, which would delegate to
+   * itself, but from the clock supplier passed to {@code wrapper}, e.g. {@code
+   * installWrapper(previous -> scaledClockSupplier(previous, 24.0d, Instant.now()))} replays the
+   * current clock at 24 times the speed.
+   *
+   * @param wrapper the function returning the clock supplier to install given the currently
+   *     installed one, not null
+   * @return the previously installed clock supplier
+   * @throws IllegalStateException if the default instance is not swappable
+   * @throws IllegalArgumentException if {@code wrapper} returns the default instance
+   * @see #install(Supplier)
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public static Supplier<Clock> installWrapper(UnaryOperator<Supplier<Clock>> wrapper) {
+    requireNonNull(wrapper, "wrapper");
+
+    return swappable().install(wrapper);
+  }
+
+  private static SwappableSupplier swappable() {
+    Supplier<Clock> current = unmetered(getDefault());
+    if (!(current instanceof SwappableSupplier)) {
+      throw new IllegalStateException(
+          "default clock supplier not swappable; set the system property "
+              + SWAPPABLE_PROPERTY_KEY
+              + " to true");
+    }
+    return (SwappableSupplier) current;
+  }
+
+  private static boolean isDefault(Supplier<Clock> supplier) {
+    return supplier == getDefault() || supplier == unmetered(getDefault());
+  }
+
   /**
    * Returns a supplier returning a clock in the UTC time-zone.
    *
@@ -227,6 +686,159 @@ public static Supplier<Clock> fixedUtcClockSupplier(Instant fixedInstant) {
     return new FixedClockSupplier(fixedInstant, ZoneId.of("Etc/UTC"));
   }
 
+  /**
+   * Returns a supplier returning a clock in the UTC time-zone which trades accuracy for speed.
+   *
+   * <p>The clock does not query the system clock; it reads a value which is updated by a shared
+   * background thread every {@code resolution}. The thread is started on first use and stopped when
+   * the JVM shuts down.
+   *
+   * <p>All coarse clocks share one background thread; it ticks at the finest resolution requested.
+   *
+   * @param resolution the maximum age of the time returned by the clock, not null, at least one
+   *     millisecond
+   * @return a coarse clock supplier
+   * @throws IllegalArgumentException if {@code resolution} is less than one millisecond
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public static Supplier<Clock> coarseUtcClockSupplier(Duration resolution) {
+    return new CoarseUtcClockSupplier(resolution);
+  }
+
+  /**
+   * Returns a supplier returning a monotonic clock in the UTC time-zone.
+   *
+   * <p>The clock is anchored to the system clock once and derives the current time from {@link
+   * System#nanoTime()}; the anchor is renewed every second. The clock follows the system clock if
+   * it moves forward. If the system clock moves backward the clock does not; instead it runs about
+   * 500ppm slower until the system clock has caught up.
+   *
+   * <p>The clock has nanosecond precision.
+   *
+   * @return a monotonic clock supplier
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public static Supplier<Clock> monotonicUtcClockSupplier() {
+    return MonotonicUtcClockSupplier.INSTANCE;
+  }
+
+  /**
+   * Returns a supplier returning a clock running {@code rate} times as fast as the clocks of the
+   * given supplier.
+   *
+   * <p>The clock starts at {@code origin} when this method is called; from then on it advances by
+   * the time elapsed on the base clock multiplied by {@code rate}, e.g. a rate of 24 replays a day
+   * in an hour. The clock has the time-zone of the base clock.
+   *
+   * <p>The same clock instance is returned by every call; reading it does not allocate if reading
+   * the base clock does not, e.g. for the suppliers returned by this class. In order to make all
+   * components see the scaled time through {@link #getDefault()} provide the supplier as the
+   * default.
+   *
+   * @param base the supplier of the base clocks, not null
+   * @param rate the rate, positive and finite
+   * @param origin the initial time of the clock, not null
+   * @return a scaled clock supplier
+   * @throws IllegalArgumentException if {@code rate} is not positive or not finite
+   * @throws ArithmeticException if {@code origin} cannot be represented as epoch nanoseconds
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public static Supplier<Clock> scaledClockSupplier(
+      Supplier<Clock> base, double rate, Instant origin) {
+
+    return new ScaledClockSupplier(base, rate, origin);
+  }
+
+  /**
+   * Returns a supplier counting the clocks obtained from the given supplier and the regressions of
+   * these clocks.
+   *
+   * <p>The metrics are registered with the platform MBean server as {@code
+   * io.sdavids.commons.time:type=ClockMetrics,name="<name>"} and passed to every {@link
+   * ClockMetricsSink} obtained by the {@code ServiceLoader} until {@link
+   * #unregisterMetrics(Supplier)} is called.
+   *
+   * <p>The name must not be in use by another metered supplier whose metrics have not been
+   * unregistered; metrics are never exported under a name other than the given one.
+   *
+   * @param supplier the supplier to meter, not null
+   * @param name the name of the metrics, not null
+   * @return a metered clock supplier
+   * @throws IllegalArgumentException if {@code name} is already in use
+   * @throws IllegalStateException if the metrics cannot be registered with the platform MBean
+   *     server
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public static Supplier<Clock> metered(Supplier<Clock> supplier, String name) {
+    requireNonNull(supplier, "supplier");
+    requireNonNull(name, "name");
+
+    return new MeteredClockSupplier(supplier, ClockMetrics.publish(name));
+  }
+
+  /**
+   * Unregisters the metrics of the given metered supplier from the platform MBean server and the
+   * {@link ClockMetricsSink sinks}.
+   *
+   * <p>The supplier keeps counting; its name can be used for another metered supplier.
+   *
+   * @param supplier the supplier returned by {@link #metered(Supplier, String)}, not null
+   * @return true if {@code supplier} is metered
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public static boolean unregisterMetrics(Supplier<Clock> supplier) {
+    requireNonNull(supplier, "supplier");
+
+    if (!(supplier instanceof MeteredClockSupplier)) {
+      return false;
+    }
+    ((MeteredClockSupplier) supplier).metrics.unpublish();
+    return true;
+  }
+
+  /**
+   * Returns a supplier detecting backward steps and forward jumps of more than one second of the
+   * clocks of the given supplier.
+   *
+   * <p>Listeners are notified on the common fork-join pool; the clocks are not clamped.
+   *
+   * @param supplier the supplier to monitor, not null
+   * @return a monitored clock supplier
+   * @see #monitored(Supplier, Duration, boolean, Executor)
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public static MonitoredClockSupplier monitored(Supplier<Clock> supplier) {
+    return monitored(supplier, Duration.ofSeconds(1L), false, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Returns a supplier detecting backward steps and forward jumps of the clocks of the given
+   * supplier.
+   *
+   * <p>A read deviating from the time expected from the elapsed {@link System#nanoTime()} by more
+   * than {@code threshold} is reported to the listeners of the returned supplier.
+   *
+   * @param supplier the supplier to monitor, not null
+   * @param threshold the maximum deviation not reported, not null, at least one millisecond
+   * @param clamp true if the clocks must never return an earlier time than returned before
+   * @param executor the executor the listeners are notified on, not null
+   * @return a monitored clock supplier
+   * @throws IllegalArgumentException if {@code threshold} is less than one millisecond
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public static MonitoredClockSupplier monitored(
+      Supplier<Clock> supplier, Duration threshold, boolean clamp, Executor executor) {
+
+    return new MonitoredClockSupplier(supplier, threshold, clamp, executor, System::nanoTime);
+  }
+
   protected ClockSupplier() {
     // injectable singleton
   }
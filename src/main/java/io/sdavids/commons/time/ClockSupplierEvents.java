@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+/**
+ * Reports the resolution and use of the default clock supplier to Java Flight Recorder.
+ *
+ * <p>If the JVM does not provide the {@code jdk.jfr} API nothing is reported; the classes
+ * referencing it are never loaded. Flight Recorder is not initialized by reporting; events are
+ * recorded once a recording has initialized it.
+ */
+final class ClockSupplierEvents {
+
+  static final boolean AVAILABLE = isAvailable();
+
+  private static boolean isAvailable() {
+    try {
+      Class.forName("jdk.jfr.FlightRecorder");
+      return true;
+    } catch (ClassNotFoundException | LinkageError | SecurityException e) {
+      return false;
+    }
+  }
+
+  static void resolved(Object provider, long scanNanos, boolean cached) {
+    if (AVAILABLE) {
+      JfrClockSupplierEvents.resolved(provider, scanNanos, cached);
+    }
+  }
+
+  static void nonCachingGet() {
+    if (AVAILABLE) {
+      JfrClockSupplierEvents.nonCachingGet();
+    }
+  }
+
+  static void lookup(long nanos) {
+    if (AVAILABLE) {
+      JfrClockSupplierEvents.lookup(nanos);
+    }
+  }
+
+  private ClockSupplierEvents() {
+    // utility class
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.PrimitiveClocks.MICROS_PER_MILLI;
+import static io.sdavids.commons.time.PrimitiveClocks.NANOS_PER_MILLI;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+/**
+ * A clock reading the epoch milliseconds published by a shared background ticker.
+ *
+ * <p>The ticker is a single daemon thread started by the first read; it is stopped when the JVM
+ * shuts down. Reads after that fall back to {@link System#currentTimeMillis()}.
+ */
+final class CoarseClock extends Clock implements PrimitiveClock {
+
+  static final CoarseClock UTC = new CoarseClock(ZoneOffset.UTC);
+
+  private static final class Ticker implements Runnable {
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private static final Duration MAX_PERIOD = Duration.ofHours(1L);
+
+    static final Ticker INSTANCE = new Ticker();
+
+    private final Object lock = new Object();
+
+    private volatile long millis = UNSET;
+
+    private volatile long periodNanos = MAX_PERIOD.toNanos();
+
+    @Nullable private Thread thread;
+
+    private boolean shutdown;
+
+    long millis() {
+      long current = millis;
+
+      return current == UNSET ? start() : current;
+    }
+
+    void register(Duration resolution) {
+      long nanos =
+          resolution.compareTo(MAX_PERIOD) < 0 ? resolution.toNanos() : MAX_PERIOD.toNanos();
+
+      synchronized (lock) {
+        if (nanos < periodNanos) {
+          periodNanos = nanos;
+
+          if (thread != null) {
+            LockSupport.unpark(thread);
+          }
+        }
+      }
+    }
+
+    private long start() {
+      synchronized (lock) {
+        if (thread == null && !shutdown) {
+          Thread ticker = new Thread(this, "ClockSupplier-coarse-ticker");
+          ticker.setDaemon(true);
+
+          try {
+            Runtime.getRuntime()
+                .addShutdownHook(
+                    new Thread(this::shutdown, "ClockSupplier-coarse-ticker-shutdown"));
+          } catch (IllegalStateException e) {
+            // JVM is already shutting down
+            shutdown = true;
+            return System.currentTimeMillis();
+          }
+
+          millis = System.currentTimeMillis();
+
+          ticker.start();
+          thread = ticker;
+        }
+      }
+
+      long current = millis;
+
+      return current == UNSET ? System.currentTimeMillis() : current;
+    }
+
+    private void shutdown() {
+      Thread ticker;
+      synchronized (lock) {
+        shutdown = true;
+        ticker = thread;
+      }
+
+      if (ticker != null) {
+        ticker.interrupt();
+        try {
+          ticker.join(SECONDS.toMillis(1L));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      while (!Thread.currentThread().isInterrupted()) {
+        millis = System.currentTimeMillis();
+
+        LockSupport.parkNanos(this, periodNanos);
+      }
+
+      millis = UNSET;
+    }
+  }
+
+  private final ZoneId zone;
+
+  private CoarseClock(ZoneId zone) {
+    this.zone = zone;
+  }
+
+  static void register(Duration resolution) {
+    Ticker.INSTANCE.register(resolution);
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  @Override
+  public Clock withZone(ZoneId zone) {
+    requireNonNull(zone, "zone");
+
+    return zone.equals(this.zone) ? this : new CoarseClock(zone);
+  }
+
+  @Override
+  public long millis() {
+    return Ticker.INSTANCE.millis();
+  }
+
+  @Override
+  public Instant instant() {
+    return Instant.ofEpochMilli(millis());
+  }
+
+  @Override
+  public long epochMillis() {
+    return millis();
+  }
+
+  @Override
+  public long epochMicros() {
+    return millis() * MICROS_PER_MILLI;
+  }
+
+  @Override
+  public long epochNanos() {
+    return millis() * NANOS_PER_MILLI;
+  }
+
+  @Override
+  public long monotonicNanos() {
+    return System.nanoTime();
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object obj) {
+    return obj instanceof CoarseClock && zone.equals(((CoarseClock) obj).zone);
+  }
+
+  @Override
+  public int hashCode() {
+    return zone.hashCode() + 1;
+  }
+
+  @Override
+  public String toString() {
+    return "CoarseClock[" + zone + ']';
+  }
+}
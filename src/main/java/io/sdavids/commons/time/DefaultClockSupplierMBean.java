@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Management interface of a swappable default clock supplier.
+ *
+ * <p>Registered as {@value #OBJECT_NAME} if the default clock supplier is swappable.
+ *
+ * @see ClockSupplier#install(java.util.function.Supplier)
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public interface DefaultClockSupplierMBean {
+
+  /**
+   * The object name the MBean is registered as.
+   *
+   * @since 1.1
+   */
+  String OBJECT_NAME = "io.sdavids.commons.time:type=DefaultClockSupplier";
+
+  /**
+   * Returns a description of the installed clock supplier.
+   *
+   * @return the {@code toString()} of the installed clock supplier
+   * @since 1.1
+   */
+  String getSupplier();
+
+  /**
+   * Installs a supplier returning a fixed clock in the UTC time-zone.
+   *
+   * @param instant the instant in ISO-8601 format, e.g. {@code 2017-10-02T17:03:00Z}
+   * @throws java.time.format.DateTimeParseException if {@code instant} cannot be parsed
+   * @since 1.1
+   */
+  void installFixed(String instant);
+
+  /**
+   * Installs a supplier returning the clock of the installed clock supplier offset by the given
+   * duration.
+   *
+   * <p>Offsets add up; call {@link #restore()} to start over.
+   *
+   * @param offsetMillis the offset in milliseconds
+   * @since 1.1
+   */
+  void installOffset(long offsetMillis);
+
+  /**
+   * Installs a supplier returning a clock running {@code rate} times as fast as the clock of the
+   * installed clock supplier, starting at the current time of the installed clock supplier.
+   *
+   * <p>Rates multiply, e.g. a fixed clock stays fixed; call {@link #restore()} to start over.
+   *
+   * @param rate the rate, positive and finite
+   * @throws IllegalArgumentException if {@code rate} is not positive or not finite
+   * @since 1.1
+   */
+  void installScaled(double rate);
+
+  /**
+   * Installs the clock supplier which was the default before anything was installed.
+   *
+   * @since 1.1
+   */
+  void restore();
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Converts between epoch milliseconds, epoch days and proleptic Gregorian (ISO) calendar fields
+ * without allocating.
+ *
+ * <p>Dates are packed into a {@code long} as {@code year << 9 | month << 5 | dayOfMonth};
+ * date-times additionally hold {@code hour << 12 | minute << 6 | second} in their lower 17 bits.
+ * Packed values compare like the dates and date-times they represent and can be used as keys
+ * directly.
+ *
+ * <p>All conversions are in UTC; to obtain the fields of a local date-time add the offset, e.g.
+ * from a {@link ZoneOffsetCache}, to the epoch milliseconds first.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see <a href="https://howardhinnant.github.io/date_algorithms.html">chrono-Compatible Low-Level
+ *     Date Algorithms</a>
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class EpochCalendar {
+
+  /**
+   * The index of the year in the array filled by {@link #fields(long, int[], int)}.
+   *
+   * @since 1.1
+   */
+  public static final int YEAR = 0;
+
+  /**
+   * The index of the month, from 1 to 12, in the array filled by {@link #fields(long, int[], int)}.
+   *
+   * @since 1.1
+   */
+  public static final int MONTH = 1;
+
+  /**
+   * The index of the day of month, from 1 to 31, in the array filled by {@link #fields(long, int[],
+   * int)}.
+   *
+   * @since 1.1
+   */
+  public static final int DAY_OF_MONTH = 2;
+
+  /**
+   * The index of the hour of day in the array filled by {@link #fields(long, int[], int)}.
+   *
+   * @since 1.1
+   */
+  public static final int HOUR = 3;
+
+  /**
+   * The index of the minute of hour in the array filled by {@link #fields(long, int[], int)}.
+   *
+   * @since 1.1
+   */
+  public static final int MINUTE = 4;
+
+  /**
+   * The index of the second of minute in the array filled by {@link #fields(long, int[], int)}.
+   *
+   * @since 1.1
+   */
+  public static final int SECOND = 5;
+
+  /**
+   * The index of the millisecond of second in the array filled by {@link #fields(long, int[],
+   * int)}.
+   *
+   * @since 1.1
+   */
+  public static final int MILLI = 6;
+
+  /**
+   * The number of fields filled by {@link #fields(long, int[], int)}.
+   *
+   * @since 1.1
+   */
+  public static final int FIELD_COUNT = 7;
+
+  static final int SECONDS_PER_DAY = 86_400;
+
+  static final long MILLIS_PER_DAY = 86_400_000L;
+
+  private static final int TIME_BITS = 17;
+
+  private static final int DAY_BITS = 5;
+
+  private static final int MONTH_BITS = 4;
+
+  // days from 0000-03-01 to 1970-01-01
+  private static final long EPOCH_SHIFT = 719_468L;
+
+  private static final int DAYS_PER_ERA = 146_097;
+
+  private EpochCalendar() {
+    // utility class
+  }
+
+  /**
+   * Returns the epoch day of the given epoch milliseconds.
+   *
+   * @param epochMillis the epoch milliseconds
+   * @return the days since 1970-01-01
+   * @since 1.1
+   */
+  public static long epochDay(long epochMillis) {
+    return Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+  }
+
+  /**
+   * Returns the packed date of the given epoch day.
+   *
+   * @param epochDay the days since 1970-01-01
+   * @return the packed date
+   * @since 1.1
+   */
+  public static long civilFromDays(long epochDay) {
+    long z = epochDay + EPOCH_SHIFT;
+    long era = Math.floorDiv(z, DAYS_PER_ERA);
+    int dayOfEra = (int) (z - era * DAYS_PER_ERA);
+    int yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+    int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    // the year starts on March 1st
+    int shiftedMonth = (5 * dayOfYear + 2) / 153;
+    int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+    int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+    long year = yearOfEra + era * 400L + (month <= 2 ? 1 : 0);
+
+    return (year << (MONTH_BITS + DAY_BITS)) | (month << DAY_BITS) | day;
+  }
+
+  /**
+   * Returns the epoch day of the given date.
+   *
+   * <p>The arguments are not validated; out-of-range months and days yield unspecified results.
+   *
+   * @param year the year
+   * @param month the month, from 1 to 12
+   * @param dayOfMonth the day of month, from 1 to 31
+   * @return the days since 1970-01-01
+   * @since 1.1
+   */
+  public static long daysFromCivil(long year, int month, int dayOfMonth) {
+    long y = month <= 2 ? year - 1L : year;
+    long era = Math.floorDiv(y, 400L);
+    int yearOfEra = (int) (y - era * 400L);
+    int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+    int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * DAYS_PER_ERA + dayOfEra - EPOCH_SHIFT;
+  }
+
+  /**
+   * Returns the packed date of the given epoch milliseconds.
+   *
+   * @param epochMillis the epoch milliseconds
+   * @return the packed date
+   * @since 1.1
+   */
+  public static long packedDate(long epochMillis) {
+    return civilFromDays(epochDay(epochMillis));
+  }
+
+  /**
+   * Returns the packed date-time of the given epoch milliseconds, truncated to seconds.
+   *
+   * @param epochMillis the epoch milliseconds
+   * @return the packed date-time
+   * @since 1.1
+   */
+  public static long packedDateTime(long epochMillis) {
+    long epochDay = epochDay(epochMillis);
+    int secondOfDay = (int) ((epochMillis - epochDay * MILLIS_PER_DAY) / 1_000L);
+
+    int hour = secondOfDay / 3_600;
+    int minute = secondOfDay / 60 % 60;
+    int second = secondOfDay % 60;
+
+    return (civilFromDays(epochDay) << TIME_BITS) | (hour << 12) | (minute << 6) | second;
+  }
+
+  /**
+   * Returns the year of the given packed date.
+   *
+   * @param packedDate a packed date
+   * @return the year
+   * @since 1.1
+   */
+  public static long year(long packedDate) {
+    return packedDate >> (MONTH_BITS + DAY_BITS);
+  }
+
+  /**
+   * Returns the month of the given packed date.
+   *
+   * @param packedDate a packed date
+   * @return the month, from 1 to 12
+   * @since 1.1
+   */
+  public static int month(long packedDate) {
+    return (int) (packedDate >>> DAY_BITS) & ((1 << MONTH_BITS) - 1);
+  }
+
+  /**
+   * Returns the day of month of the given packed date.
+   *
+   * @param packedDate a packed date
+   * @return the day of month, from 1 to 31
+   * @since 1.1
+   */
+  public static int dayOfMonth(long packedDate) {
+    return (int) packedDate & ((1 << DAY_BITS) - 1);
+  }
+
+  /**
+   * Returns the packed date of the given packed date-time.
+   *
+   * @param packedDateTime a packed date-time
+   * @return the packed date
+   * @since 1.1
+   */
+  public static long date(long packedDateTime) {
+    return packedDateTime >> TIME_BITS;
+  }
+
+  /**
+   * Returns the hour of the given packed date-time.
+   *
+   * @param packedDateTime a packed date-time
+   * @return the hour of day
+   * @since 1.1
+   */
+  public static int hour(long packedDateTime) {
+    return (int) (packedDateTime >>> 12) & 0x1F;
+  }
+
+  /**
+   * Returns the minute of the given packed date-time.
+   *
+   * @param packedDateTime a packed date-time
+   * @return the minute of hour
+   * @since 1.1
+   */
+  public static int minute(long packedDateTime) {
+    return (int) (packedDateTime >>> 6) & 0x3F;
+  }
+
+  /**
+   * Returns the second of the given packed date-time.
+   *
+   * @param packedDateTime a packed date-time
+   * @return the second of minute
+   * @since 1.1
+   */
+  public static int second(long packedDateTime) {
+    return (int) packedDateTime & 0x3F;
+  }
+
+  /**
+   * Stores the fields of the given epoch milliseconds into the given array.
+   *
+   * <p>The fields are stored at the given offset plus the indices {@link #YEAR}, {@link #MONTH},
+   * {@link #DAY_OF_MONTH}, {@link #HOUR}, {@link #MINUTE}, {@link #SECOND}, and {@link #MILLI}.
+   *
+   * @param epochMillis the epoch milliseconds
+   * @param fields the destination, not null
+   * @param offset the index of the first field
+   * @throws IndexOutOfBoundsException if {@code fields} has less than {@value #FIELD_COUNT}
+   *     elements starting at {@code offset}
+   * @throws ArithmeticException if the year does not fit into an {@code int}
+   * @since 1.1
+   */
+  public static void fields(long epochMillis, int[] fields, int offset) {
+    requireNonNull(fields, "fields");
+
+    if (offset < 0 || offset > fields.length - FIELD_COUNT) {
+      throw new IndexOutOfBoundsException(
+          "offset: " + offset + ", length: " + FIELD_COUNT + ", size: " + fields.length);
+    }
+
+    long epochDay = epochDay(epochMillis);
+    int millisOfDay = (int) (epochMillis - epochDay * MILLIS_PER_DAY);
+    long date = civilFromDays(epochDay);
+
+    fields[offset + YEAR] = Math.toIntExact(year(date));
+    fields[offset + MONTH] = month(date);
+    fields[offset + DAY_OF_MONTH] = dayOfMonth(date);
+    fields[offset + HOUR] = millisOfDay / 3_600_000;
+    fields[offset + MINUTE] = millisOfDay / 60_000 % 60;
+    fields[offset + SECOND] = millisOfDay / 1_000 % 60;
+    fields[offset + MILLI] = millisOfDay % 1_000;
+  }
+}
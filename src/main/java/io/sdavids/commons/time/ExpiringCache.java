@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import io.sdavids.commons.time.HashedWheelTimer.Timeout;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.apiguardian.api.API;
+
+/**
+ * A concurrent cache whose entries expire after a per-entry time-to-live.
+ *
+ * <p>The current time is read from the clocks returned by the given supplier, i.e. tests may use a
+ * controllable clock instead of sleeping.
+ *
+ * <p>Expired entries are never returned: reads check the expiration time of the entry and remove it
+ * if it has expired. Other expired entries are removed by a {@link HashedWheelTimer} which is
+ * advanced by writes, i.e. in amortized O(1); a write skips the cleanup if another thread is
+ * performing it. Reads never block.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class ExpiringCache<K, V> {
+
+  private static final Duration DEFAULT_TICK_DURATION = Duration.ofSeconds(1L);
+
+  private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+  private static final Duration MAX_TTL = Duration.ofMillis(Long.MAX_VALUE);
+
+  private static final class Entry<V> {
+
+    final V value;
+    final long expiresAt;
+
+    @Nullable volatile Timeout timeout;
+
+    Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    void cancel() {
+      Timeout t = timeout;
+      if (t != null) {
+        t.cancel();
+      }
+    }
+  }
+
+  private final Supplier<Clock> clockSupplier;
+  private final HashedWheelTimer timer;
+
+  private final ConcurrentMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+
+  private final ReentrantLock cleanupLock = new ReentrantLock();
+
+  private ExpiringCache(Supplier<Clock> clockSupplier, Duration tickDuration) {
+    this.clockSupplier = requireNonNull(clockSupplier, "clockSupplier");
+
+    timer = HashedWheelTimer.create(clockSupplier, tickDuration, DEFAULT_TICKS_PER_WHEEL);
+  }
+
+  /**
+   * Creates a cache reading the time from the default clock supplier.
+   *
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @return a new cache
+   * @see ClockSupplier#getDefault()
+   * @since 1.1
+   */
+  public static <K, V> ExpiringCache<K, V> create() {
+    return create(ClockSupplier.getDefault());
+  }
+
+  /**
+   * Creates a cache removing expired entries with a resolution of one second.
+   *
+   * @param clockSupplier the supplier of the clocks the time is read from, not null
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @return a new cache
+   * @since 1.1
+   */
+  public static <K, V> ExpiringCache<K, V> create(Supplier<Clock> clockSupplier) {
+    return create(clockSupplier, DEFAULT_TICK_DURATION);
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * <p>The tick duration is the resolution with which expired entries not read are removed; it does
+   * not affect when entries expire.
+   *
+   * @param clockSupplier the supplier of the clocks the time is read from, not null
+   * @param tickDuration the duration of one tick of the expiry wheel, not null, at least one
+   *     millisecond
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @return a new cache
+   * @throws IllegalArgumentException if {@code tickDuration} is less than one millisecond
+   * @since 1.1
+   */
+  public static <K, V> ExpiringCache<K, V> create(
+      Supplier<Clock> clockSupplier, Duration tickDuration) {
+
+    return new ExpiringCache<>(clockSupplier, tickDuration);
+  }
+
+  /**
+   * Returns the value of the given key.
+   *
+   * @param key the key, not null
+   * @return the value, or null if there is no entry or it has expired
+   * @since 1.1
+   */
+  @Nullable
+  public V get(K key) {
+    requireNonNull(key, "key");
+
+    Entry<V> entry = map.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (clockSupplier.get().millis() >= entry.expiresAt) {
+      if (map.remove(key, entry)) {
+        entry.cancel();
+      }
+      return null;
+    }
+    return entry.value;
+  }
+
+  /**
+   * Associates the given value with the given key for the given time-to-live.
+   *
+   * @param key the key, not null
+   * @param value the value, not null
+   * @param ttl the time-to-live, not null, positive
+   * @return the previous value, or null if there was no entry or it had expired
+   * @throws IllegalArgumentException if {@code ttl} is not positive
+   * @since 1.1
+   */
+  @Nullable
+  public V put(K key, V value, Duration ttl) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+    requireNonNull(ttl, "ttl");
+
+    if (ttl.isZero() || ttl.isNegative()) {
+      throw new IllegalArgumentException("ttl must be positive: " + ttl);
+    }
+
+    long now = clockSupplier.get().millis();
+    long ttlMillis = ttl.compareTo(MAX_TTL) >= 0 ? Long.MAX_VALUE : ttl.toMillis();
+    long expiresAt = ttlMillis >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttlMillis;
+
+    Entry<V> entry = new Entry<>(value, expiresAt);
+
+    // scheduled before the entry is published so that a replacing put can cancel the timeout;
+    // entries which never expire are not scheduled
+    Timeout timeout = null;
+    if (expiresAt != Long.MAX_VALUE) {
+      // a timeout firing after the entry has been replaced does not remove anything
+      timeout = timer.schedule(() -> map.remove(key, entry), ttl);
+      entry.timeout = timeout;
+    }
+
+    Entry<V> previous = map.put(key, entry);
+
+    if (timeout != null && timeout.isExpired()) {
+      // the timeout fired before the entry was published
+      map.remove(key, entry);
+    }
+
+    expire();
+
+    if (previous == null) {
+      return null;
+    }
+    previous.cancel();
+    return now >= previous.expiresAt ? null : previous.value;
+  }
+
+  /**
+   * Removes the entry of the given key.
+   *
+   * @param key the key, not null
+   * @return the removed value, or null if there was no entry or it had expired
+   * @since 1.1
+   */
+  @Nullable
+  public V remove(K key) {
+    requireNonNull(key, "key");
+
+    Entry<V> previous = map.remove(key);
+
+    expire();
+
+    if (previous == null) {
+      return null;
+    }
+    previous.cancel();
+    return clockSupplier.get().millis() >= previous.expiresAt ? null : previous.value;
+  }
+
+  /**
+   * Returns the number of entries.
+   *
+   * <p>Expired entries which have not been removed yet are counted.
+   *
+   * @return the number of entries
+   * @since 1.1
+   */
+  public int size() {
+    return map.size();
+  }
+
+  /**
+   * Removes the expired entries whose tick has elapsed.
+   *
+   * <p>Unlike writes, this method waits if another thread is removing expired entries.
+   *
+   * @since 1.1
+   */
+  public void cleanUp() {
+    cleanupLock.lock();
+    try {
+      timer.advance();
+    } finally {
+      cleanupLock.unlock();
+    }
+  }
+
+  private void expire() {
+    if (cleanupLock.tryLock()) {
+      try {
+        timer.advance();
+      } finally {
+        cleanupLock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ExpiringCache(" + clockSupplier + ", " + map.size() + ')';
+  }
+}
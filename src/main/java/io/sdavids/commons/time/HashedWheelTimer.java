@@ -0,0 +1,474 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.apiguardian.api.API;
+
+/**
+ * A timer optimized for large numbers of timeouts which are usually cancelled before they expire.
+ *
+ * <p>Scheduling and cancelling a timeout is O(1): both enqueue the timeout; it is moved into or
+ * unlinked from the wheel by the next {@link #advance()}.
+ *
+ * <p>Timeouts never expire early; they expire at most one tick late, or later if {@link #advance()}
+ * is not called in time. The current time is read from the clocks returned by the given supplier,
+ * i.e. tests may use a controllable clock and call {@link #advance()} instead of {@link #start()
+ * starting} the background thread.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see <a href="http://www.cs.columbia.edu/~nahum/w6998/papers/sosp87-timing-wheels.pdf">Hashed and
+ *     Hierarchical Timing Wheels</a>
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class HashedWheelTimer implements AutoCloseable {
+
+  /**
+   * A handle of a task scheduled by a {@link HashedWheelTimer}.
+   *
+   * @since 1.1
+   */
+  @API(status = EXPERIMENTAL, since = "1.1")
+  public interface Timeout {
+
+    /**
+     * Cancels the task.
+     *
+     * @return true if the task was cancelled; false if it has already expired or was cancelled
+     */
+    boolean cancel();
+
+    /**
+     * Returns whether the task has been cancelled.
+     *
+     * @return true if the task has been cancelled
+     */
+    boolean isCancelled();
+
+    /**
+     * Returns whether the task has expired, i.e. it has been or is being run.
+     *
+     * @return true if the task has expired
+     */
+    boolean isExpired();
+  }
+
+  private static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(100L);
+
+  private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+  private static final int MAX_TICKS_PER_WHEEL = 1 << 30;
+
+  private static final Duration MAX_DELAY = Duration.ofMillis(Long.MAX_VALUE);
+
+  private static final int STATE_PENDING = 0;
+  private static final int STATE_CANCELLED = 1;
+  private static final int STATE_EXPIRED = 2;
+
+  // guarded by timer.lock; a node never linked into a bucket has no links, an unlinked node points
+  // to itself
+  private static class Node {
+
+    @Nullable Node previous;
+    @Nullable Node next;
+
+    final boolean isLinked() {
+      return next != null && next != this;
+    }
+
+    final void selfLink() {
+      previous = this;
+      next = this;
+    }
+
+    final void unlink() {
+      previous.next = next;
+      next.previous = previous;
+      selfLink();
+    }
+  }
+
+  private static final class TimeoutImpl extends Node implements Timeout {
+
+    private static final AtomicIntegerFieldUpdater<TimeoutImpl> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(TimeoutImpl.class, "state");
+
+    final HashedWheelTimer timer;
+    final Runnable task;
+    final long deadline;
+
+    // guarded by timer.lock
+    long tick;
+
+    private volatile int state = STATE_PENDING;
+
+    TimeoutImpl(HashedWheelTimer timer, Runnable task, long deadline) {
+      this.timer = timer;
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public boolean cancel() {
+      if (!STATE.compareAndSet(this, STATE_PENDING, STATE_CANCELLED)) {
+        return false;
+      }
+      timer.cancelled.add(this);
+      return true;
+    }
+
+    boolean expire() {
+      return STATE.compareAndSet(this, STATE_PENDING, STATE_EXPIRED);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return state == STATE_CANCELLED;
+    }
+
+    @Override
+    public boolean isExpired() {
+      return state == STATE_EXPIRED;
+    }
+
+    @Override
+    public String toString() {
+      return "Timeout(" + task + ", " + deadline + "ms)";
+    }
+  }
+
+  // the bucket itself is the sentinel of its circular list
+  private static final class Bucket extends Node {
+
+    void add(TimeoutImpl timeout) {
+      timeout.previous = previous;
+      timeout.next = this;
+      previous.next = timeout;
+      previous = timeout;
+    }
+
+    void expire(long tick, List<Runnable> expired) {
+      Node node = next;
+      while (node != this) {
+        TimeoutImpl timeout = (TimeoutImpl) node;
+        node = node.next;
+        if (timeout.tick <= tick) {
+          timeout.unlink();
+          if (timeout.expire()) {
+            expired.add(timeout.task);
+          }
+        }
+      }
+    }
+
+    void clear() {
+      Node node = next;
+      while (node != this) {
+        TimeoutImpl timeout = (TimeoutImpl) node;
+        node = node.next;
+        timeout.unlink();
+        timeout.cancel();
+      }
+    }
+  }
+
+  private final Supplier<Clock> clockSupplier;
+  private final long tickMillis;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final long startMillis;
+
+  private final Queue<TimeoutImpl> scheduled = new ConcurrentLinkedQueue<>();
+  private final Queue<TimeoutImpl> cancelled = new ConcurrentLinkedQueue<>();
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  // guarded by lock
+  private long tick;
+
+  private volatile boolean closed;
+
+  private final Object workerLock = new Object();
+
+  // guarded by workerLock
+  @Nullable private Thread worker;
+
+  private HashedWheelTimer(
+      Supplier<Clock> clockSupplier, Duration tickDuration, int ticksPerWheel) {
+    this.clockSupplier = requireNonNull(clockSupplier, "clockSupplier");
+    requireNonNull(tickDuration, "tickDuration");
+
+    if (tickDuration.compareTo(Duration.ofMillis(1L)) < 0) {
+      throw new IllegalArgumentException("tickDuration must be at least one millisecond");
+    }
+    if (ticksPerWheel < 1 || ticksPerWheel > MAX_TICKS_PER_WHEEL) {
+      throw new IllegalArgumentException(
+          "ticksPerWheel must be between 1 and " + MAX_TICKS_PER_WHEEL + ": " + ticksPerWheel);
+    }
+
+    tickMillis = tickDuration.toMillis();
+
+    int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+    wheel = new Bucket[size == 0 ? 1 : size];
+    for (int i = 0; i < wheel.length; i++) {
+      wheel[i] = new Bucket();
+      wheel[i].selfLink();
+    }
+    mask = wheel.length - 1;
+
+    startMillis = clockSupplier.get().millis();
+  }
+
+  /**
+   * Creates a timer reading the time from the default clock supplier.
+   *
+   * <p>The timer ticks every 100 milliseconds and has 512 ticks per wheel.
+   *
+   * @return a new timer
+   * @see ClockSupplier#getDefault()
+   * @since 1.1
+   */
+  public static HashedWheelTimer create() {
+    return new HashedWheelTimer(
+        ClockSupplier.getDefault(), DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+  }
+
+  /**
+   * Creates a timer.
+   *
+   * <p>The number of ticks per wheel is rounded up to the next power of two.
+   *
+   * @param clockSupplier the supplier of the clocks the time is read from, not null
+   * @param tickDuration the duration of one tick, not null, at least one millisecond
+   * @param ticksPerWheel the number of ticks per wheel
+   * @return a new timer
+   * @throws IllegalArgumentException if {@code tickDuration} is less than one millisecond or {@code
+   *     ticksPerWheel} is out of range
+   * @since 1.1
+   */
+  public static HashedWheelTimer create(
+      Supplier<Clock> clockSupplier, Duration tickDuration, int ticksPerWheel) {
+
+    return new HashedWheelTimer(clockSupplier, tickDuration, ticksPerWheel);
+  }
+
+  /**
+   * Schedules the given task to be run after the given delay.
+   *
+   * @param task the task, not null
+   * @param delay the delay, not null; negative delays are treated as zero, delays too long to be
+   *     represented in milliseconds never expire
+   * @return the handle of the scheduled task
+   * @throws IllegalStateException if this timer has been closed
+   * @since 1.1
+   */
+  public Timeout schedule(Runnable task, Duration delay) {
+    requireNonNull(task, "task");
+    requireNonNull(delay, "delay");
+
+    if (closed) {
+      throw new IllegalStateException("timer closed");
+    }
+
+    long elapsed = clockSupplier.get().millis() - startMillis;
+    long delayMillis =
+        delay.isNegative()
+            ? 0L
+            : delay.compareTo(MAX_DELAY) >= 0 ? Long.MAX_VALUE : delay.toMillis();
+
+    // saturate: a huge delay must not wrap around to the past
+    long deadline =
+        elapsed > 0L && delayMillis > Long.MAX_VALUE - elapsed
+            ? Long.MAX_VALUE
+            : elapsed + delayMillis;
+
+    TimeoutImpl timeout = new TimeoutImpl(this, task, deadline);
+
+    scheduled.add(timeout);
+
+    return timeout;
+  }
+
+  /**
+   * Runs the tasks whose delay has elapsed on the calling thread.
+   *
+   * <p>If a task throws an exception the remaining expired tasks are run before the first exception
+   * is rethrown.
+   *
+   * @return the number of tasks run
+   * @since 1.1
+   */
+  public int advance() {
+    List<Runnable> expired = new ArrayList<>();
+
+    lock.lock();
+    try {
+      long target = Math.floorDiv(clockSupplier.get().millis() - startMillis, tickMillis);
+
+      unlinkCancelled();
+      transferScheduled();
+
+      // after a jump of a full revolution every bucket has been visited once
+      long last = Math.min(target, tick + mask);
+      for (; tick <= last; tick++) {
+        wheel[(int) (tick & mask)].expire(target, expired);
+      }
+      tick = Math.max(tick, target + 1L);
+    } finally {
+      lock.unlock();
+    }
+
+    run(expired);
+
+    return expired.size();
+  }
+
+  /**
+   * Starts a daemon thread calling {@link #advance()} once per tick.
+   *
+   * <p>Exceptions thrown by tasks are passed to the thread's uncaught exception handler.
+   *
+   * @return this timer
+   * @throws IllegalStateException if this timer has been closed
+   * @since 1.1
+   */
+  public HashedWheelTimer start() {
+    synchronized (workerLock) {
+      if (closed) {
+        throw new IllegalStateException("timer closed");
+      }
+      if (worker == null) {
+        Thread thread = new Thread(this::work, "HashedWheelTimer-worker");
+        thread.setDaemon(true);
+        thread.start();
+        worker = thread;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Stops the background thread, if any, and cancels all pending timeouts.
+   *
+   * @since 1.1
+   */
+  @Override
+  public void close() {
+    Thread thread;
+    synchronized (workerLock) {
+      closed = true;
+      thread = worker;
+    }
+
+    if (thread != null && thread != Thread.currentThread()) {
+      thread.interrupt();
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    lock.lock();
+    try {
+      for (TimeoutImpl timeout = scheduled.poll(); timeout != null; timeout = scheduled.poll()) {
+        timeout.cancel();
+      }
+      for (Bucket bucket : wheel) {
+        bucket.clear();
+      }
+      cancelled.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void work() {
+    while (!closed) {
+      try {
+        advance();
+      } catch (RuntimeException e) {
+        Thread current = Thread.currentThread();
+        current.getUncaughtExceptionHandler().uncaughtException(current, e);
+      }
+      try {
+        MILLISECONDS.sleep(tickMillis);
+      } catch (InterruptedException e) {
+        return;
+      }
+    }
+  }
+
+  private void unlinkCancelled() {
+    for (TimeoutImpl timeout = cancelled.poll(); timeout != null; timeout = cancelled.poll()) {
+      if (timeout.isLinked()) {
+        timeout.unlink();
+      }
+    }
+  }
+
+  private void transferScheduled() {
+    for (TimeoutImpl timeout = scheduled.poll(); timeout != null; timeout = scheduled.poll()) {
+      if (timeout.isCancelled()) {
+        continue;
+      }
+      // round up: never expire early
+      long deadlineTick = -Math.floorDiv(-timeout.deadline, tickMillis);
+
+      timeout.tick = Math.max(deadlineTick, tick);
+
+      wheel[(int) (timeout.tick & mask)].add(timeout);
+    }
+  }
+
+  private static void run(List<Runnable> tasks) {
+    RuntimeException failure = null;
+    for (Runnable task : tasks) {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "HashedWheelTimer(" + clockSupplier + ", " + tickMillis + "ms, " + wheel.length + ')';
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * A hybrid logical clock.
+ *
+ * <p>Timestamps combine the physical time in epoch milliseconds with a logical counter; they are
+ * packed into a {@code long}: the upper 48 bits hold the physical time, the lower 16 bits hold the
+ * logical counter. Packed timestamps compare like their physical/logical pairs.
+ *
+ * <p>If the logical counter overflows the physical part is incremented.
+ *
+ * <p>This class is thread-safe; no locks are used.
+ *
+ * @see <a href="https://cse.buffalo.edu/tech-reports/2014-04.pdf">Logical Physical Clocks and
+ *     Consistent Snapshots in Globally Distributed Databases</a>
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class HybridLogicalClock {
+
+  private static final int LOGICAL_BITS = 16;
+
+  private static final int MAX_LOGICAL = (1 << LOGICAL_BITS) - 1;
+
+  private static final long MAX_PHYSICAL = Long.MAX_VALUE >>> LOGICAL_BITS;
+
+  private static final class SingletonHolder {
+
+    static final HybridLogicalClock INSTANCE = new HybridLogicalClock(ClockSupplier.getDefault());
+  }
+
+  private final Supplier<Clock> clockSupplier;
+
+  private final AtomicLong last = new AtomicLong();
+
+  private HybridLogicalClock(Supplier<Clock> clockSupplier) {
+    this.clockSupplier = clockSupplier;
+  }
+
+  /**
+   * Obtains the default hybrid logical clock.
+   *
+   * <p>The physical time is read from the clocks returned by {@link ClockSupplier#getDefault()}.
+   *
+   * @return the default hybrid logical clock; never null
+   * @since 1.1
+   */
+  public static HybridLogicalClock getDefault() {
+    return SingletonHolder.INSTANCE;
+  }
+
+  /**
+   * Creates a hybrid logical clock.
+   *
+   * @param clockSupplier the supplier of the clocks the physical time is read from, not null
+   * @return a new hybrid logical clock
+   * @since 1.1
+   */
+  public static HybridLogicalClock create(Supplier<Clock> clockSupplier) {
+    return new HybridLogicalClock(requireNonNull(clockSupplier, "clockSupplier"));
+  }
+
+  /**
+   * Packs the given physical time and logical counter into a timestamp.
+   *
+   * @param physicalMillis the physical time in epoch milliseconds, from 0 to {@code 2^47 - 1}
+   * @param logical the logical counter, from 0 to 65535
+   * @return the packed timestamp
+   * @throws IllegalArgumentException if either argument is out of range
+   * @since 1.1
+   */
+  public static long encode(long physicalMillis, int logical) {
+    if (physicalMillis < 0L || physicalMillis > MAX_PHYSICAL) {
+      throw new IllegalArgumentException("physicalMillis out of range: " + physicalMillis);
+    }
+    if (logical < 0 || logical > MAX_LOGICAL) {
+      throw new IllegalArgumentException("logical out of range: " + logical);
+    }
+    return physicalMillis << LOGICAL_BITS | logical;
+  }
+
+  /**
+   * Obtains the physical time of the given timestamp.
+   *
+   * @param timestamp a packed timestamp
+   * @return the physical time in epoch milliseconds
+   * @since 1.1
+   */
+  public static long physicalMillis(long timestamp) {
+    return timestamp >>> LOGICAL_BITS;
+  }
+
+  /**
+   * Obtains the logical counter of the given timestamp.
+   *
+   * @param timestamp a packed timestamp
+   * @return the logical counter
+   * @since 1.1
+   */
+  public static int logical(long timestamp) {
+    return (int) (timestamp & MAX_LOGICAL);
+  }
+
+  /**
+   * Returns the timestamp of a local or send event.
+   *
+   * <p>The returned timestamp is greater than any timestamp previously returned by or passed to
+   * this clock.
+   *
+   * @return the packed timestamp
+   * @throws IllegalStateException if the greatest timestamp has been reached
+   * @since 1.1
+   */
+  public long now() {
+    long physical = physical();
+
+    long previous;
+    long next;
+    do {
+      previous = last.get();
+      next = Math.max(successor(previous), physical);
+    } while (!last.compareAndSet(previous, next));
+
+    return next;
+  }
+
+  /**
+   * Returns the timestamp of a receive event.
+   *
+   * <p>The returned timestamp is greater than the given remote timestamp and any timestamp
+   * previously returned by or passed to this clock.
+   *
+   * @param remoteTimestamp the packed timestamp of the received message
+   * @return the packed timestamp
+   * @throws IllegalArgumentException if {@code remoteTimestamp} is negative or the greatest
+   *     timestamp
+   * @throws IllegalStateException if the greatest timestamp has been reached
+   * @since 1.1
+   */
+  public long update(long remoteTimestamp) {
+    if (remoteTimestamp < 0L || remoteTimestamp == Long.MAX_VALUE) {
+      throw new IllegalArgumentException("remoteTimestamp out of range: " + remoteTimestamp);
+    }
+
+    long physical = Math.max(physical(), remoteTimestamp + 1L);
+
+    long previous;
+    long next;
+    do {
+      previous = last.get();
+      next = Math.max(successor(previous), physical);
+    } while (!last.compareAndSet(previous, next));
+
+    return next;
+  }
+
+  private static long successor(long timestamp) {
+    if (timestamp == Long.MAX_VALUE) {
+      throw new IllegalStateException("timestamp overflow");
+    }
+    return timestamp + 1L;
+  }
+
+  private long physical() {
+    long millis = clockSupplier.get().millis();
+
+    return millis < 0L ? 0L : Math.min(millis, MAX_PHYSICAL) << LOGICAL_BITS;
+  }
+
+  @Override
+  public String toString() {
+    long current = last.get();
+
+    return "HybridLogicalClock(" + physicalMillis(current) + ", " + logical(current) + ')';
+  }
+}
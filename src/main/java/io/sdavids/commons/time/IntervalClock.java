@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * A clock returning the current time as an interval guaranteed to contain the true time, provided
+ * the drift model holds.
+ *
+ * <p>The clock is synchronized to a reference time with a known uncertainty. From then on the time
+ * is derived from the monotonic time of the underlying clock; the uncertainty grows by the maximum
+ * drift rate, in parts per million of the elapsed time, until the clock is synchronized again.
+ *
+ * <p>The interval is returned as two epoch nanoseconds stored at an offset plus the indices {@link
+ * #EARLIEST} and {@link #LATEST} of an array, i.e. reading it does not allocate.
+ *
+ * <p>Commit wait: to make a timestamp visible only when it is guaranteed to be in the past, take
+ * the latest bound as the timestamp and call {@link #waitUntilAfter(long)} with it before making it
+ * visible.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see <a href="https://research.google/pubs/pub39966/">Spanner: Google's Globally-Distributed
+ *     Database</a>
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class IntervalClock {
+
+  /**
+   * The index of the earliest possible current time.
+   *
+   * @since 1.1
+   */
+  public static final int EARLIEST = 0;
+
+  /**
+   * The index of the latest possible current time.
+   *
+   * @since 1.1
+   */
+  public static final int LATEST = 1;
+
+  /**
+   * The number of elements of an interval.
+   *
+   * @since 1.1
+   */
+  public static final int INTERVAL_LENGTH = 2;
+
+  private static final Duration DEFAULT_UNCERTAINTY = Duration.ofMillis(1L);
+
+  private static final long DEFAULT_DRIFT_PPM = 200L;
+
+  private static final long PPM = 1_000_000L;
+
+  // waits shorter than this are spun, longer waits are parked
+  private static final long SPIN_THRESHOLD_NANOS = 50_000L;
+
+  private static final class Synchronization {
+
+    final long epochNanos;
+    final long monotonicNanos;
+    final long uncertaintyNanos;
+
+    Synchronization(long epochNanos, long monotonicNanos, long uncertaintyNanos) {
+      this.epochNanos = epochNanos;
+      this.monotonicNanos = monotonicNanos;
+      this.uncertaintyNanos = uncertaintyNanos;
+    }
+  }
+
+  private final Supplier<Clock> clockSupplier;
+  private final PrimitiveClock clock;
+  private final long uncertaintyNanos;
+  private final long driftPpm;
+
+  private volatile Synchronization synchronization;
+
+  private IntervalClock(Supplier<Clock> clockSupplier, long uncertaintyNanos, long driftPpm) {
+    this.clockSupplier = clockSupplier;
+    this.uncertaintyNanos = uncertaintyNanos;
+    this.driftPpm = driftPpm;
+
+    clock = PrimitiveClock.of(clockSupplier);
+    synchronization =
+        new Synchronization(clock.epochNanos(), clock.monotonicNanos(), uncertaintyNanos);
+  }
+
+  /**
+   * Creates an interval clock reading the time from the default clock supplier.
+   *
+   * <p>The clock is synchronized to the default clock with an uncertainty of one millisecond and
+   * assumes a maximum drift of 200ppm.
+   *
+   * @return a new interval clock
+   * @see ClockSupplier#getDefault()
+   * @since 1.1
+   */
+  public static IntervalClock create() {
+    return create(ClockSupplier.getDefault(), DEFAULT_UNCERTAINTY, DEFAULT_DRIFT_PPM);
+  }
+
+  /**
+   * Creates an interval clock.
+   *
+   * <p>The clock is synchronized to the clock of the given supplier; {@link #synchronize()} uses it
+   * as the reference, too.
+   *
+   * @param clockSupplier the supplier of the underlying clocks, not null
+   * @param uncertainty the uncertainty of the underlying clock, not null, not negative
+   * @param driftPpm the maximum drift rate of the monotonic time of the underlying clock, in parts
+   *     per million
+   * @return a new interval clock
+   * @throws IllegalArgumentException if {@code uncertainty} or {@code driftPpm} is negative
+   * @since 1.1
+   */
+  public static IntervalClock create(
+      Supplier<Clock> clockSupplier, Duration uncertainty, long driftPpm) {
+
+    requireNonNull(clockSupplier, "clockSupplier");
+
+    if (driftPpm < 0L) {
+      throw new IllegalArgumentException("driftPpm must not be negative: " + driftPpm);
+    }
+
+    return new IntervalClock(clockSupplier, checkUncertainty(uncertainty), driftPpm);
+  }
+
+  private static long checkUncertainty(Duration uncertainty) {
+    requireNonNull(uncertainty, "uncertainty");
+
+    if (uncertainty.isNegative()) {
+      throw new IllegalArgumentException("uncertainty must not be negative: " + uncertainty);
+    }
+
+    return uncertainty.toNanos();
+  }
+
+  /**
+   * Synchronizes this clock to the underlying clock with its configured uncertainty.
+   *
+   * @since 1.1
+   */
+  public void synchronize() {
+    synchronization =
+        new Synchronization(clock.epochNanos(), clock.monotonicNanos(), uncertaintyNanos);
+  }
+
+  /**
+   * Synchronizes this clock to the given reference time.
+   *
+   * @param referenceEpochNanos the current reference time in epoch nanoseconds
+   * @param uncertainty the uncertainty of the reference time, not null, not negative
+   * @throws IllegalArgumentException if {@code uncertainty} is negative
+   * @since 1.1
+   */
+  public void synchronize(long referenceEpochNanos, Duration uncertainty) {
+    long nanos = checkUncertainty(uncertainty);
+
+    synchronization = new Synchronization(referenceEpochNanos, clock.monotonicNanos(), nanos);
+  }
+
+  /**
+   * Stores the current time interval into the given array.
+   *
+   * <p>The bounds are stored at the given offset plus the indices {@link #EARLIEST} and {@link
+   * #LATEST}.
+   *
+   * @param interval the destination, not null
+   * @param offset the index of the interval
+   * @throws IndexOutOfBoundsException if {@code interval} has less than {@value #INTERVAL_LENGTH}
+   *     elements starting at {@code offset}
+   * @since 1.1
+   */
+  public void now(long[] interval, int offset) {
+    requireNonNull(interval, "interval");
+
+    if (offset < 0 || offset > interval.length - INTERVAL_LENGTH) {
+      throw new IndexOutOfBoundsException(
+          "offset: " + offset + ", length: " + INTERVAL_LENGTH + ", size: " + interval.length);
+    }
+
+    Synchronization current = synchronization;
+
+    long elapsed = clock.monotonicNanos() - current.monotonicNanos;
+    long now = current.epochNanos + elapsed;
+    long error = current.uncertaintyNanos + drift(elapsed);
+
+    interval[offset + EARLIEST] = now - error;
+    interval[offset + LATEST] = now + error;
+  }
+
+  /**
+   * Returns the current uncertainty, i.e. half the width of the current time interval.
+   *
+   * @return the uncertainty in nanoseconds
+   * @since 1.1
+   */
+  public long uncertaintyNanos() {
+    Synchronization current = synchronization;
+
+    return current.uncertaintyNanos + drift(clock.monotonicNanos() - current.monotonicNanos);
+  }
+
+  /**
+   * Returns whether the given time has definitely passed.
+   *
+   * @param epochNanos the time in epoch nanoseconds
+   * @return true if the earliest possible current time is after {@code epochNanos}
+   * @since 1.1
+   */
+  public boolean isAfter(long epochNanos) {
+    return earliest() > epochNanos;
+  }
+
+  /**
+   * Returns whether the given time has definitely not arrived.
+   *
+   * @param epochNanos the time in epoch nanoseconds
+   * @return true if the latest possible current time is before {@code epochNanos}
+   * @since 1.1
+   */
+  public boolean isBefore(long epochNanos) {
+    Synchronization current = synchronization;
+
+    long elapsed = clock.monotonicNanos() - current.monotonicNanos;
+
+    return current.epochNanos + elapsed + current.uncertaintyNanos + drift(elapsed) < epochNanos;
+  }
+
+  /**
+   * Waits until the given time has definitely passed.
+   *
+   * <p>Waits longer than 50 microseconds are parked, shorter ones are spun. If the underlying clock
+   * does not advance, e.g. a fixed clock, this method waits until interrupted.
+   *
+   * @param epochNanos the time in epoch nanoseconds
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   * @since 1.1
+   */
+  public void waitUntilAfter(long epochNanos) throws InterruptedException {
+    for (long remaining = epochNanos - earliest() + 1L;
+        remaining > 0L;
+        remaining = epochNanos - earliest() + 1L) {
+
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      if (remaining > SPIN_THRESHOLD_NANOS) {
+        LockSupport.parkNanos(this, remaining - SPIN_THRESHOLD_NANOS / 2L);
+      } else {
+        Thread.yield();
+      }
+    }
+  }
+
+  private long earliest() {
+    Synchronization current = synchronization;
+
+    long elapsed = clock.monotonicNanos() - current.monotonicNanos;
+
+    return current.epochNanos + elapsed - current.uncertaintyNanos - drift(elapsed);
+  }
+
+  private long drift(long elapsed) {
+    // elapsed * driftPpm / PPM without overflow
+    return elapsed / PPM * driftPpm + elapsed % PPM * driftPpm / PPM;
+  }
+
+  @Override
+  public String toString() {
+    return "IntervalClock("
+        + clockSupplier
+        + ", "
+        + Duration.ofNanos(uncertaintyNanos)
+        + ", "
+        + driftPpm
+        + "ppm)";
+  }
+}
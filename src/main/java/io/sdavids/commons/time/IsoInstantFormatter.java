@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.EpochCalendar.SECONDS_PER_DAY;
+import static io.sdavids.commons.time.EpochCalendar.civilFromDays;
+import static io.sdavids.commons.time.EpochCalendar.dayOfMonth;
+import static io.sdavids.commons.time.EpochCalendar.month;
+import static io.sdavids.commons.time.EpochCalendar.year;
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import org.apiguardian.api.API;
+
+/**
+ * Formats epoch milliseconds and nanoseconds as ISO-8601 UTC timestamps without allocating.
+ *
+ * <p>Millisecond timestamps are formatted as {@code uuuu-MM-dd'T'HH:mm:ss.SSS'Z'} ({@value
+ * #MILLIS_LENGTH} characters), nanosecond timestamps as {@code uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSS'Z'}
+ * ({@value #NANOS_LENGTH} characters); unlike {@link java.time.Instant#toString()} the fraction is
+ * never omitted or shortened.
+ *
+ * <p>Only the years 0000 to 9999 are supported.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class IsoInstantFormatter {
+
+  /**
+   * The length of a formatted millisecond timestamp.
+   *
+   * @since 1.1
+   */
+  public static final int MILLIS_LENGTH = 24;
+
+  /**
+   * The length of a formatted nanosecond timestamp.
+   *
+   * @since 1.1
+   */
+  public static final int NANOS_LENGTH = 30;
+
+  // 0000-01-01T00:00:00Z
+  private static final long MIN_EPOCH_MILLIS = -62_167_219_200_000L;
+
+  // 9999-12-31T23:59:59.999Z
+  private static final long MAX_EPOCH_MILLIS = 253_402_300_799_999L;
+
+  private static final byte[] DIGITS = new byte[200];
+
+  static {
+    for (int i = 0; i < 100; i++) {
+      DIGITS[i << 1] = (byte) ('0' + i / 10);
+      DIGITS[(i << 1) + 1] = (byte) ('0' + i % 10);
+    }
+  }
+
+  private static final ThreadLocal<byte[]> SCRATCH =
+      ThreadLocal.withInitial(() -> new byte[NANOS_LENGTH]);
+
+  private IsoInstantFormatter() {
+    // utility class
+  }
+
+  /**
+   * Writes the given epoch milliseconds into the given array.
+   *
+   * @param epochMillis the epoch milliseconds
+   * @param dst the destination, not null
+   * @param offset the index of the first byte written
+   * @return the index following the last byte written
+   * @throws IllegalArgumentException if {@code epochMillis} is out of range
+   * @throws IndexOutOfBoundsException if {@code dst} has less than {@value #MILLIS_LENGTH} bytes
+   *     after {@code offset}
+   * @since 1.1
+   */
+  public static int formatMillis(long epochMillis, byte[] dst, int offset) {
+    requireNonNull(dst, "dst");
+    checkMillis(epochMillis);
+    checkBounds(dst, offset, MILLIS_LENGTH);
+
+    return writeMillis(epochMillis, dst, offset);
+  }
+
+  /**
+   * Writes the given epoch milliseconds into the given buffer at its current position.
+   *
+   * @param epochMillis the epoch milliseconds
+   * @param dst the destination, not null
+   * @throws IllegalArgumentException if {@code epochMillis} is out of range
+   * @throws BufferOverflowException if {@code dst} has less than {@value #MILLIS_LENGTH} bytes
+   *     remaining
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   * @since 1.1
+   */
+  public static void formatMillis(long epochMillis, ByteBuffer dst) {
+    requireNonNull(dst, "dst");
+    checkMillis(epochMillis);
+
+    if (dst.hasArray()) {
+      checkRemaining(dst, MILLIS_LENGTH);
+      writeMillis(epochMillis, dst.array(), dst.arrayOffset() + dst.position());
+      dst.position(dst.position() + MILLIS_LENGTH);
+    } else {
+      byte[] scratch = SCRATCH.get();
+      writeMillis(epochMillis, scratch, 0);
+      dst.put(scratch, 0, MILLIS_LENGTH);
+    }
+  }
+
+  /**
+   * Appends the given epoch milliseconds to the given builder.
+   *
+   * @param epochMillis the epoch milliseconds
+   * @param dst the destination, not null
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code epochMillis} is out of range
+   * @since 1.1
+   */
+  public static StringBuilder formatMillis(long epochMillis, StringBuilder dst) {
+    requireNonNull(dst, "dst");
+    checkMillis(epochMillis);
+
+    byte[] scratch = SCRATCH.get();
+    writeMillis(epochMillis, scratch, 0);
+
+    return append(scratch, MILLIS_LENGTH, dst);
+  }
+
+  /**
+   * Writes the given epoch nanoseconds into the given array.
+   *
+   * @param epochNanos the epoch nanoseconds
+   * @param dst the destination, not null
+   * @param offset the index of the first byte written
+   * @return the index following the last byte written
+   * @throws IndexOutOfBoundsException if {@code dst} has less than {@value #NANOS_LENGTH} bytes
+   *     after {@code offset}
+   * @since 1.1
+   */
+  public static int formatNanos(long epochNanos, byte[] dst, int offset) {
+    requireNonNull(dst, "dst");
+    checkBounds(dst, offset, NANOS_LENGTH);
+
+    return writeNanos(epochNanos, dst, offset);
+  }
+
+  /**
+   * Writes the given epoch nanoseconds into the given buffer at its current position.
+   *
+   * @param epochNanos the epoch nanoseconds
+   * @param dst the destination, not null
+   * @throws BufferOverflowException if {@code dst} has less than {@value #NANOS_LENGTH} bytes
+   *     remaining
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   * @since 1.1
+   */
+  public static void formatNanos(long epochNanos, ByteBuffer dst) {
+    requireNonNull(dst, "dst");
+
+    if (dst.hasArray()) {
+      checkRemaining(dst, NANOS_LENGTH);
+      writeNanos(epochNanos, dst.array(), dst.arrayOffset() + dst.position());
+      dst.position(dst.position() + NANOS_LENGTH);
+    } else {
+      byte[] scratch = SCRATCH.get();
+      writeNanos(epochNanos, scratch, 0);
+      dst.put(scratch, 0, NANOS_LENGTH);
+    }
+  }
+
+  /**
+   * Appends the given epoch nanoseconds to the given builder.
+   *
+   * @param epochNanos the epoch nanoseconds
+   * @param dst the destination, not null
+   * @return {@code dst}
+   * @since 1.1
+   */
+  public static StringBuilder formatNanos(long epochNanos, StringBuilder dst) {
+    requireNonNull(dst, "dst");
+
+    byte[] scratch = SCRATCH.get();
+    writeNanos(epochNanos, scratch, 0);
+
+    return append(scratch, NANOS_LENGTH, dst);
+  }
+
+  private static void checkMillis(long epochMillis) {
+    if (epochMillis < MIN_EPOCH_MILLIS || epochMillis > MAX_EPOCH_MILLIS) {
+      throw new IllegalArgumentException("epochMillis out of range: " + epochMillis);
+    }
+  }
+
+  private static void checkBounds(byte[] dst, int offset, int length) {
+    if (offset < 0 || offset > dst.length - length) {
+      throw new IndexOutOfBoundsException(
+          "offset: " + offset + ", length: " + length + ", size: " + dst.length);
+    }
+  }
+
+  private static void checkRemaining(ByteBuffer dst, int length) {
+    if (dst.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    if (dst.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+  }
+
+  private static int writeMillis(long epochMillis, byte[] dst, int offset) {
+    long epochSecond = Math.floorDiv(epochMillis, 1_000L);
+    int millis = (int) (epochMillis - epochSecond * 1_000L);
+
+    int position = writeSeconds(epochSecond, dst, offset);
+
+    dst[position] = '.';
+    position = write3(millis, dst, position + 1);
+    dst[position] = 'Z';
+
+    return position + 1;
+  }
+
+  private static int writeNanos(long epochNanos, byte[] dst, int offset) {
+    long epochSecond = Math.floorDiv(epochNanos, 1_000_000_000L);
+    int nanos = (int) (epochNanos - epochSecond * 1_000_000_000L);
+
+    int position = writeSeconds(epochSecond, dst, offset);
+
+    dst[position] = '.';
+    position = write3(nanos / 1_000_000, dst, position + 1);
+    position = write3(nanos / 1_000 % 1_000, dst, position);
+    position = write3(nanos % 1_000, dst, position);
+    dst[position] = 'Z';
+
+    return position + 1;
+  }
+
+  // writes uuuu-MM-ddTHH:mm:ss
+  private static int writeSeconds(long epochSecond, byte[] dst, int offset) {
+    long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    int secondOfDay = (int) (epochSecond - epochDay * SECONDS_PER_DAY);
+
+    long date = civilFromDays(epochDay);
+    int year = (int) year(date);
+
+    int position = offset;
+
+    position = write2(year / 100, dst, position);
+    position = write2(year % 100, dst, position);
+    dst[position++] = '-';
+    position = write2(month(date), dst, position);
+    dst[position++] = '-';
+    position = write2(dayOfMonth(date), dst, position);
+    dst[position++] = 'T';
+    position = write2(secondOfDay / 3_600, dst, position);
+    dst[position++] = ':';
+    position = write2(secondOfDay / 60 % 60, dst, position);
+    dst[position++] = ':';
+
+    return write2(secondOfDay % 60, dst, position);
+  }
+
+  private static int write2(int value, byte[] dst, int offset) {
+    int index = value << 1;
+    dst[offset] = DIGITS[index];
+    dst[offset + 1] = DIGITS[index + 1];
+    return offset + 2;
+  }
+
+  private static int write3(int value, byte[] dst, int offset) {
+    dst[offset] = (byte) ('0' + value / 100);
+    return write2(value % 100, dst, offset + 1);
+  }
+
+  private static StringBuilder append(byte[] src, int length, StringBuilder dst) {
+    dst.ensureCapacity(dst.length() + length);
+    for (int i = 0; i < length; i++) {
+      dst.append((char) src[i]);
+    }
+    return dst;
+  }
+}
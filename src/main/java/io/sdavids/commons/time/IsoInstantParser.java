@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.EpochCalendar.SECONDS_PER_DAY;
+import static io.sdavids.commons.time.EpochCalendar.daysFromCivil;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.nio.ByteBuffer;
+import java.time.format.DateTimeParseException;
+import org.apiguardian.api.API;
+
+/**
+ * Parses ISO-8601 timestamps into epoch milliseconds or nanoseconds without allocating.
+ *
+ * <p>The accepted format is the RFC 3339 profile of ISO-8601:
+ *
+ * <pre>
+ * uuuu-MM-dd'T'HH:mm:ss[.fraction](Z|+HH:mm|-HH:mm)
+ * </pre>
+ *
+ * <p>The fraction has one to nine digits; the separator between date and time may also be {@code t}
+ * or a space, the UTC designator may also be {@code z}. Only the years 0000 to 9999 are supported;
+ * leap seconds are not.
+ *
+ * <p>Fractions finer than the requested precision are truncated toward the past.
+ *
+ * <p>Objects are only allocated if the text cannot be parsed.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see <a href="https://tools.ietf.org/html/rfc3339#section-5.6">RFC 3339: Internet Date/Time
+ *     Format</a>
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class IsoInstantParser {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private static final int NANOS_PER_MILLI = 1_000_000;
+
+  // yyyy-MM-ddTHH:mm:ssZ
+  private static final int MIN_LENGTH = 20;
+
+  private IsoInstantParser() {
+    // utility class
+  }
+
+  /**
+   * Parses the given text into epoch milliseconds.
+   *
+   * @param text the text to parse, not null
+   * @return the epoch milliseconds
+   * @throws DateTimeParseException if the text cannot be parsed
+   * @since 1.1
+   */
+  public static long parseMillis(CharSequence text) {
+    requireNonNull(text, "text");
+
+    return parseMillis(text, 0, text.length());
+  }
+
+  /**
+   * Parses the given range of the given text into epoch milliseconds.
+   *
+   * @param text the text to parse, not null
+   * @param start the index of the first character
+   * @param end the index following the last character
+   * @return the epoch milliseconds
+   * @throws DateTimeParseException if the text cannot be parsed
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   * @since 1.1
+   */
+  public static long parseMillis(CharSequence text, int start, int end) {
+    requireNonNull(text, "text");
+    checkRange(start, end, text.length());
+
+    return parse(text, start, end, false);
+  }
+
+  /**
+   * Parses the given range of the given ASCII bytes into epoch milliseconds.
+   *
+   * @param src the bytes to parse, not null
+   * @param offset the index of the first byte
+   * @param length the number of bytes
+   * @return the epoch milliseconds
+   * @throws DateTimeParseException if the bytes cannot be parsed
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   * @since 1.1
+   */
+  public static long parseMillis(byte[] src, int offset, int length) {
+    requireNonNull(src, "src");
+    checkRange(offset, offset + length, src.length);
+
+    return parse(src, offset, offset + length, false);
+  }
+
+  /**
+   * Parses the remaining ASCII bytes of the given buffer into epoch milliseconds.
+   *
+   * <p>The position of the buffer is not changed.
+   *
+   * @param src the bytes to parse, not null
+   * @return the epoch milliseconds
+   * @throws DateTimeParseException if the bytes cannot be parsed
+   * @since 1.1
+   */
+  public static long parseMillis(ByteBuffer src) {
+    requireNonNull(src, "src");
+
+    return parse(src, src.position(), src.limit(), false);
+  }
+
+  /**
+   * Parses the given text into epoch nanoseconds.
+   *
+   * @param text the text to parse, not null
+   * @return the epoch nanoseconds
+   * @throws DateTimeParseException if the text cannot be parsed or the instant does not fit
+   * @since 1.1
+   */
+  public static long parseNanos(CharSequence text) {
+    requireNonNull(text, "text");
+
+    return parseNanos(text, 0, text.length());
+  }
+
+  /**
+   * Parses the given range of the given text into epoch nanoseconds.
+   *
+   * @param text the text to parse, not null
+   * @param start the index of the first character
+   * @param end the index following the last character
+   * @return the epoch nanoseconds
+   * @throws DateTimeParseException if the text cannot be parsed or the instant does not fit
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   * @since 1.1
+   */
+  public static long parseNanos(CharSequence text, int start, int end) {
+    requireNonNull(text, "text");
+    checkRange(start, end, text.length());
+
+    return parse(text, start, end, true);
+  }
+
+  /**
+   * Parses the given range of the given ASCII bytes into epoch nanoseconds.
+   *
+   * @param src the bytes to parse, not null
+   * @param offset the index of the first byte
+   * @param length the number of bytes
+   * @return the epoch nanoseconds
+   * @throws DateTimeParseException if the bytes cannot be parsed or the instant does not fit
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   * @since 1.1
+   */
+  public static long parseNanos(byte[] src, int offset, int length) {
+    requireNonNull(src, "src");
+    checkRange(offset, offset + length, src.length);
+
+    return parse(src, offset, offset + length, true);
+  }
+
+  /**
+   * Parses the remaining ASCII bytes of the given buffer into epoch nanoseconds.
+   *
+   * <p>The position of the buffer is not changed.
+   *
+   * @param src the bytes to parse, not null
+   * @return the epoch nanoseconds
+   * @throws DateTimeParseException if the bytes cannot be parsed or the instant does not fit
+   * @since 1.1
+   */
+  public static long parseNanos(ByteBuffer src) {
+    requireNonNull(src, "src");
+
+    return parse(src, src.position(), src.limit(), true);
+  }
+
+  private static void checkRange(int start, int end, int length) {
+    if (start < 0 || end < start || end > length) {
+      throw new IndexOutOfBoundsException(
+          "start: " + start + ", end: " + end + ", length: " + length);
+    }
+  }
+
+  // Dispatching on the source keeps a single parser without wrapping the input.
+  private static int at(Object src, int index) {
+    if (src instanceof byte[]) {
+      return ((byte[]) src)[index] & 0xFF;
+    }
+    if (src instanceof ByteBuffer) {
+      return ((ByteBuffer) src).get(index) & 0xFF;
+    }
+    return ((CharSequence) src).charAt(index);
+  }
+
+  private static long parse(Object src, int start, int end, boolean nanoPrecision) {
+    if (end - start < MIN_LENGTH) {
+      throw error("Text too short", src, start, end, end);
+    }
+
+    long epochSecond = epochDay(src, start, end) * SECONDS_PER_DAY + secondOfDay(src, start, end);
+    int fractionEnd = fractionEnd(src, start + 19, start, end);
+    int nanos = nanos(src, start + 20, fractionEnd);
+    epochSecond -= offsetSeconds(src, fractionEnd, start, end);
+
+    if (!nanoPrecision) {
+      return epochSecond * 1_000L + nanos / NANOS_PER_MILLI;
+    }
+
+    try {
+      // borrow a second: the product of the minimum epoch second alone overflows
+      return epochSecond < 0L && nanos > 0
+          ? Math.addExact(
+              Math.multiplyExact(epochSecond + 1L, NANOS_PER_SECOND), nanos - NANOS_PER_SECOND)
+          : Math.addExact(Math.multiplyExact(epochSecond, NANOS_PER_SECOND), nanos);
+    } catch (ArithmeticException e) {
+      DateTimeParseException error =
+          error("Instant exceeds epoch nanoseconds", src, start, end, start);
+      error.initCause(e);
+      throw error;
+    }
+  }
+
+  // uuuu-MM-dd
+  private static long epochDay(Object src, int start, int end) {
+    int year = digits(src, start, 4, start, end);
+    expect(src, start + 4, '-', start, end);
+    int month = digits(src, start + 5, 2, start, end);
+    int monthLength = month < 1 || month > 12 ? 0 : lengthOfMonth(year, month);
+    if (monthLength == 0) {
+      throw error("Invalid month", src, start, end, start + 5);
+    }
+    expect(src, start + 7, '-', start, end);
+    int day = digits(src, start + 8, 2, start, end);
+    if (day < 1 || day > monthLength) {
+      throw error("Invalid day of month", src, start, end, start + 8);
+    }
+    return daysFromCivil(year, month, day);
+  }
+
+  // 'T'HH:mm:ss
+  private static int secondOfDay(Object src, int start, int end) {
+    int separator = at(src, start + 10);
+    if (separator != 'T' && separator != 't' && separator != ' ') {
+      throw error("Expected 'T'", src, start, end, start + 10);
+    }
+    int hour = digits(src, start + 11, 2, start, end);
+    if (hour > 23) {
+      throw error("Invalid hour", src, start, end, start + 11);
+    }
+    expect(src, start + 13, ':', start, end);
+    int minute = digits(src, start + 14, 2, start, end);
+    if (minute > 59) {
+      throw error("Invalid minute", src, start, end, start + 14);
+    }
+    expect(src, start + 16, ':', start, end);
+    int second = digits(src, start + 17, 2, start, end);
+    if (second > 59) {
+      throw error("Invalid second", src, start, end, start + 17);
+    }
+    return hour * 3_600 + minute * 60 + second;
+  }
+
+  // the index following the optional fraction starting at the given index
+  private static int fractionEnd(Object src, int index, int start, int end) {
+    if (at(src, index) != '.') {
+      return index;
+    }
+    int position = index + 1;
+    while (position < end && isDigit(at(src, position))) {
+      position++;
+    }
+    if (position == index + 1) {
+      throw error("Expected digit", src, start, end, position);
+    }
+    if (position - index > 10) {
+      throw error("Fraction too long", src, start, end, index + 10);
+    }
+    return position;
+  }
+
+  private static int nanos(Object src, int from, int to) {
+    int nanos = 0;
+    int scale = 100_000_000;
+    for (int i = from; i < to; i++) {
+      nanos += (at(src, i) - '0') * scale;
+      scale /= 10;
+    }
+    return nanos;
+  }
+
+  // Z or +HH:mm, at most +/-18:00, followed by the end of the text
+  private static int offsetSeconds(Object src, int index, int start, int end) {
+    if (index >= end) {
+      throw error("Expected offset", src, start, end, index);
+    }
+    int designator = at(src, index);
+    if (designator == 'Z' || designator == 'z') {
+      expectEnd(src, index + 1, start, end);
+      return 0;
+    }
+    if (designator != '+' && designator != '-') {
+      throw error("Expected offset", src, start, end, index);
+    }
+    if (end - index < 6) {
+      throw error("Expected offset", src, start, end, index);
+    }
+    int hours = digits(src, index + 1, 2, start, end);
+    expect(src, index + 3, ':', start, end);
+    int minutes = digits(src, index + 4, 2, start, end);
+    if (minutes > 59 || hours * 60 + minutes > 18 * 60) {
+      throw error("Invalid offset", src, start, end, index);
+    }
+    expectEnd(src, index + 6, start, end);
+    int seconds = hours * 3_600 + minutes * 60;
+    return designator == '-' ? -seconds : seconds;
+  }
+
+  private static int digits(Object src, int index, int count, int start, int end) {
+    int value = 0;
+    for (int i = index; i < index + count; i++) {
+      int c = at(src, i);
+      if (!isDigit(c)) {
+        throw error("Expected digit", src, start, end, i);
+      }
+      value = value * 10 + c - '0';
+    }
+    return value;
+  }
+
+  private static void expect(Object src, int index, char expected, int start, int end) {
+    if (at(src, index) != expected) {
+      throw error("Expected '" + expected + '\'', src, start, end, index);
+    }
+  }
+
+  private static void expectEnd(Object src, int index, int start, int end) {
+    if (index != end) {
+      throw error("Unparsed text", src, start, end, index);
+    }
+  }
+
+  private static boolean isDigit(int c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static DateTimeParseException error(
+      String message, Object src, int start, int end, int index) {
+
+    String text;
+    if (src instanceof byte[]) {
+      text = new String((byte[]) src, start, end - start, ISO_8859_1);
+    } else if (src instanceof ByteBuffer) {
+      byte[] bytes = new byte[end - start];
+      for (int i = 0; i < bytes.length; i++) {
+        bytes[i] = ((ByteBuffer) src).get(start + i);
+      }
+      text = new String(bytes, ISO_8859_1);
+    } else {
+      text = ((CharSequence) src).subSequence(start, end).toString();
+    }
+
+    return new DateTimeParseException(
+        message + ": '" + text + "' at index " + (index - start), text, index - start);
+  }
+}
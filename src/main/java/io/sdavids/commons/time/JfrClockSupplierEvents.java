@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The Java Flight Recorder events of {@link ClockSupplierEvents}.
+ *
+ * <p>Only loaded if the {@code jdk.jfr} API is available.
+ */
+final class JfrClockSupplierEvents {
+
+  static final String CATEGORY = "sdavids-commons-time";
+
+  @Name("io.sdavids.commons.time.ClockSupplierResolution")
+  @Label("Clock Supplier Resolution")
+  @Description("The ServiceLoader lookup of the default clock supplier")
+  @Category(CATEGORY)
+  @StackTrace(false)
+  static final class ResolutionEvent extends Event {
+
+    @Label("Provider")
+    String provider;
+
+    @Label("Scan Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long scanDuration;
+
+    @Label("Cached")
+    @Description("Whether the default clock supplier is cached")
+    boolean cached;
+  }
+
+  @Name("io.sdavids.commons.time.ClockSupplierStatistics")
+  @Label("Clock Supplier Statistics")
+  @Description("The use of the non-caching default clock supplier since the JVM started")
+  @Category(CATEGORY)
+  @Period("1 s")
+  @StackTrace(false)
+  static final class StatisticsEvent extends Event {
+
+    @Label("Non-Caching Gets")
+    long nonCachingGets;
+
+    @Label("Lookups")
+    long lookups;
+
+    @Label("Lookup Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long lookupTime;
+  }
+
+  private static final LongAdder NON_CACHING_GETS = new LongAdder();
+  private static final LongAdder LOOKUPS = new LongAdder();
+  private static final LongAdder LOOKUP_TIME = new LongAdder();
+
+  private static final Object LOCK = new Object();
+
+  private static volatile boolean registered;
+
+  /*
+   * Loading an event class initializes Flight Recorder, which takes hundreds of milliseconds;
+   * nothing is recorded until a recording has initialized it. The periodic event is added on the
+   * first call after that.
+   */
+  private static boolean recording() {
+    if (registered) {
+      return true;
+    }
+    if (!FlightRecorder.isInitialized()) {
+      return false;
+    }
+    synchronized (LOCK) {
+      if (!registered) {
+        FlightRecorder.addPeriodicEvent(
+            StatisticsEvent.class, JfrClockSupplierEvents::emitStatistics);
+        registered = true;
+      }
+    }
+    return true;
+  }
+
+  private static void emitStatistics() {
+    StatisticsEvent event = new StatisticsEvent();
+    event.nonCachingGets = NON_CACHING_GETS.sum();
+    event.lookups = LOOKUPS.sum();
+    event.lookupTime = LOOKUP_TIME.sum();
+    event.commit();
+  }
+
+  static void resolved(Object provider, long scanNanos, boolean cached) {
+    if (recording()) {
+      ResolutionEvent event = new ResolutionEvent();
+      if (event.isEnabled()) {
+        event.provider = provider.getClass().getName();
+        event.scanDuration = scanNanos;
+        event.cached = cached;
+        event.commit();
+      }
+    }
+  }
+
+  static void nonCachingGet() {
+    NON_CACHING_GETS.increment();
+    recording();
+  }
+
+  static void lookup(long nanos) {
+    LOOKUPS.increment();
+    LOOKUP_TIME.add(nanos);
+  }
+
+  private JfrClockSupplierEvents() {
+    // utility class
+  }
+}
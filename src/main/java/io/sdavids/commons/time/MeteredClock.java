@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import javax.annotation.CheckForNull;
+
+/** A clock reporting the times read from a delegate to {@link ClockMetrics}. */
+final class MeteredClock extends Clock {
+
+  private final Clock delegate;
+  private final ClockMetrics metrics;
+
+  MeteredClock(Clock delegate, ClockMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  Clock delegate() {
+    return delegate;
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return delegate.getZone();
+  }
+
+  @Override
+  public Clock withZone(ZoneId zone) {
+    requireNonNull(zone, "zone");
+
+    return zone.equals(getZone()) ? this : new MeteredClock(delegate.withZone(zone), metrics);
+  }
+
+  @Override
+  public long millis() {
+    long millis = delegate.millis();
+    metrics.read(millis);
+    return millis;
+  }
+
+  @Override
+  public Instant instant() {
+    Instant instant = delegate.instant();
+    metrics.read(instant.toEpochMilli());
+    return instant;
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object obj) {
+    if (!(obj instanceof MeteredClock)) {
+      return false;
+    }
+
+    MeteredClock other = (MeteredClock) obj;
+
+    return delegate.equals(other.delegate) && metrics == other.metrics;
+  }
+
+  @Override
+  public int hashCode() {
+    return delegate.hashCode() + 5;
+  }
+
+  @Override
+  public String toString() {
+    return "MeteredClock[" + delegate + ']';
+  }
+}
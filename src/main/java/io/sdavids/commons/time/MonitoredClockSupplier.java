@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.PrimitiveClocks.NANOS_PER_MILLI;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+import org.apiguardian.api.API;
+
+/**
+ * A clock supplier detecting backward steps and forward jumps of the clocks of another supplier.
+ *
+ * <p>Every read of a clock is compared to the time expected from the elapsed {@link
+ * System#nanoTime()} since the previous anchor; the check costs a few subtractions. If the
+ * deviation exceeds the threshold the registered listeners are notified asynchronously and the
+ * clock is re-anchored. Otherwise the anchor is renewed once per second, i.e. the slow drift
+ * between the clock and {@code System.nanoTime()} is not reported.
+ *
+ * <p>Optionally the clocks are clamped: they never return an earlier time than the latest time
+ * returned before.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see ClockSupplier#monitored(Supplier)
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class MonitoredClockSupplier implements Supplier<Clock> {
+
+  static final long REANCHOR_INTERVAL_NANOS = SECONDS.toNanos(1L);
+
+  private static final class Anchor {
+
+    // epoch nanoseconds minus System.nanoTime()
+    final long offset;
+    final long nanoTime;
+
+    Anchor(long offset, long nanoTime) {
+      this.offset = offset;
+      this.nanoTime = nanoTime;
+    }
+  }
+
+  private final class MonitoredClock extends Clock {
+
+    private final Clock delegate;
+
+    MonitoredClock(Clock delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return delegate.getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      requireNonNull(zone, "zone");
+
+      return zone.equals(getZone()) ? this : new MonitoredClock(delegate.withZone(zone));
+    }
+
+    @Override
+    public long millis() {
+      return check(delegate.millis());
+    }
+
+    @Override
+    public Instant instant() {
+      Instant instant = delegate.instant();
+      long millis = instant.toEpochMilli();
+      long checked = check(millis);
+
+      return checked == millis ? instant : Instant.ofEpochMilli(checked);
+    }
+
+    @Override
+    public boolean equals(@CheckForNull Object obj) {
+      if (!(obj instanceof MonitoredClock)) {
+        return false;
+      }
+
+      MonitoredClock other = (MonitoredClock) obj;
+
+      return delegate.equals(other.delegate) && supplier() == other.supplier();
+    }
+
+    @Override
+    public int hashCode() {
+      return delegate.hashCode() + 6;
+    }
+
+    private MonitoredClockSupplier supplier() {
+      return MonitoredClockSupplier.this;
+    }
+
+    @Override
+    public String toString() {
+      return "MonitoredClock[" + delegate + ']';
+    }
+  }
+
+  private final Supplier<Clock> supplier;
+  private final long thresholdNanos;
+  private final boolean clamp;
+  private final Executor executor;
+  private final LongSupplier nanoTime;
+
+  private final List<ClockJumpListener> listeners = new CopyOnWriteArrayList<>();
+
+  private final AtomicReference<Anchor> anchor = new AtomicReference<>();
+
+  @Nullable private volatile MonitoredClock clock;
+
+  private final AtomicLong latestMillis = new AtomicLong(Long.MIN_VALUE);
+
+  MonitoredClockSupplier(
+      Supplier<Clock> supplier,
+      Duration threshold,
+      boolean clamp,
+      Executor executor,
+      LongSupplier nanoTime) {
+
+    this.supplier = requireNonNull(supplier, "supplier");
+    requireNonNull(threshold, "threshold");
+    this.executor = requireNonNull(executor, "executor");
+    this.clamp = clamp;
+    this.nanoTime = nanoTime;
+
+    if (threshold.compareTo(Duration.ofMillis(1L)) < 0) {
+      throw new IllegalArgumentException("threshold must be at least one millisecond");
+    }
+    thresholdNanos = threshold.toNanos();
+  }
+
+  @Override
+  public Clock get() {
+    Clock current = supplier.get();
+
+    MonitoredClock monitored = clock;
+    // Clock.systemUTC() returns a new, equal instance on every call on Java 8
+    if (monitored == null || !monitored.delegate.equals(current)) {
+      monitored = new MonitoredClock(current);
+      clock = monitored;
+    }
+    return monitored;
+  }
+
+  /**
+   * Registers the given listener.
+   *
+   * @param listener the listener, not null
+   * @since 1.1
+   */
+  public void addListener(ClockJumpListener listener) {
+    listeners.add(requireNonNull(listener, "listener"));
+  }
+
+  /**
+   * Unregisters the given listener.
+   *
+   * @param listener the listener, not null
+   * @since 1.1
+   */
+  public void removeListener(ClockJumpListener listener) {
+    listeners.remove(requireNonNull(listener, "listener"));
+  }
+
+  long check(long millis) {
+    long now = nanoTime.getAsLong();
+    long epochNanos = millis * NANOS_PER_MILLI;
+
+    Anchor current = anchor.get();
+    if (current == null) {
+      anchor.compareAndSet(null, new Anchor(epochNanos - now, now));
+    } else {
+      long deviation = epochNanos - now - current.offset;
+      if (deviation > thresholdNanos || -deviation > thresholdNanos) {
+        if (anchor.compareAndSet(current, new Anchor(epochNanos - now, now))) {
+          notifyListeners(Math.floorDiv(now + current.offset, NANOS_PER_MILLI), millis);
+        }
+      } else if (now - current.nanoTime > REANCHOR_INTERVAL_NANOS) {
+        anchor.compareAndSet(current, new Anchor(epochNanos - now, now));
+      }
+    }
+
+    if (!clamp) {
+      return millis;
+    }
+
+    long latest;
+    do {
+      latest = latestMillis.get();
+      if (millis <= latest) {
+        return latest;
+      }
+    } while (!latestMillis.compareAndSet(latest, millis));
+    return millis;
+  }
+
+  private void notifyListeners(long expectedMillis, long actualMillis) {
+    for (ClockJumpListener listener : listeners) {
+      try {
+        executor.execute(() -> listener.clockJumped(expectedMillis, actualMillis));
+      } catch (RejectedExecutionException e) {
+        // the executor has been shut down
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ClockSupplier.monitored("
+        + supplier
+        + ", "
+        + Duration.ofNanos(thresholdNanos)
+        + ", "
+        + clamp
+        + ')';
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.PrimitiveClocks.NANOS_PER_MILLI;
+import static io.sdavids.commons.time.PrimitiveClocks.NANOS_PER_SECOND;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import javax.annotation.CheckForNull;
+
+/**
+ * A clock deriving the current time from {@link System#nanoTime()} and an anchor taken from the
+ * system clock.
+ *
+ * <p>The anchor is renewed once per {@link #REANCHOR_INTERVAL_NANOS}. If the system clock has moved
+ * forward the clock follows; if it has moved backward the clock does not step back but runs slower
+ * by {@code 1/2^SLEW_SHIFT} (about 500ppm) until the system clock has caught up.
+ */
+final class MonotonicClock extends Clock implements PrimitiveClock {
+
+  static final long REANCHOR_INTERVAL_NANOS = SECONDS.toNanos(1L);
+
+  static final int SLEW_SHIFT = 11;
+
+  static final MonotonicClock UTC =
+      new MonotonicClock(ZoneOffset.UTC, new Source(System::currentTimeMillis, System::nanoTime));
+
+  static final class Source {
+
+    private static final class Anchor {
+
+      final long epochNanos;
+      final long nanoTime;
+      final boolean slewing;
+
+      Anchor(long epochNanos, long nanoTime, boolean slewing) {
+        this.epochNanos = epochNanos;
+        this.nanoTime = nanoTime;
+        this.slewing = slewing;
+      }
+
+      long epochNanosAt(long nanoTime) {
+        long elapsed = nanoTime - this.nanoTime;
+
+        return epochNanos + (slewing ? elapsed - (elapsed >> SLEW_SHIFT) : elapsed);
+      }
+    }
+
+    private final LongSupplier wallMillis;
+    private final LongSupplier nanoTime;
+
+    private final AtomicReference<Anchor> anchor;
+
+    Source(LongSupplier wallMillis, LongSupplier nanoTime) {
+      this.wallMillis = wallMillis;
+      this.nanoTime = nanoTime;
+
+      anchor =
+          new AtomicReference<>(
+              new Anchor(wallMillis.getAsLong() * NANOS_PER_MILLI, nanoTime.getAsLong(), false));
+    }
+
+    long epochNanos() {
+      Anchor current = anchor.get();
+      long now = nanoTime.getAsLong();
+
+      return now - current.nanoTime < REANCHOR_INTERVAL_NANOS
+          ? current.epochNanosAt(now)
+          : reanchor(current, now);
+    }
+
+    long nanoTime() {
+      return nanoTime.getAsLong();
+    }
+
+    private long reanchor(Anchor current, long now) {
+      long derived = current.epochNanosAt(now);
+      long wall = wallMillis.getAsLong() * NANOS_PER_MILLI;
+
+      // the system clock has millisecond precision
+      Anchor next =
+          wall > derived
+              ? new Anchor(wall, now, false)
+              : new Anchor(derived, now, derived - wall > NANOS_PER_MILLI);
+
+      return anchor.compareAndSet(current, next) ? next.epochNanos : derived;
+    }
+  }
+
+  private final ZoneId zone;
+  private final Source source;
+
+  MonotonicClock(ZoneId zone, Source source) {
+    this.zone = zone;
+    this.source = source;
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  @Override
+  public Clock withZone(ZoneId zone) {
+    requireNonNull(zone, "zone");
+
+    return zone.equals(this.zone) ? this : new MonotonicClock(zone, source);
+  }
+
+  @Override
+  public long millis() {
+    return floorDiv(source.epochNanos(), NANOS_PER_MILLI);
+  }
+
+  @Override
+  public Instant instant() {
+    long epochNanos = source.epochNanos();
+
+    return Instant.ofEpochSecond(
+        floorDiv(epochNanos, NANOS_PER_SECOND), floorMod(epochNanos, NANOS_PER_SECOND));
+  }
+
+  @Override
+  public long epochMillis() {
+    return millis();
+  }
+
+  @Override
+  public long epochMicros() {
+    return floorDiv(source.epochNanos(), 1_000L);
+  }
+
+  @Override
+  public long epochNanos() {
+    return source.epochNanos();
+  }
+
+  @Override
+  public long monotonicNanos() {
+    return source.nanoTime();
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object obj) {
+    if (!(obj instanceof MonotonicClock)) {
+      return false;
+    }
+
+    MonotonicClock other = (MonotonicClock) obj;
+
+    return zone.equals(other.zone) && source == other.source;
+  }
+
+  @Override
+  public int hashCode() {
+    return zone.hashCode() + 2;
+  }
+
+  @Override
+  public String toString() {
+    return "MonotonicClock[" + zone + ']';
+  }
+}
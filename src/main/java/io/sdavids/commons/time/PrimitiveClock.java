@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * A clock returning the current time as primitive values.
+ *
+ * <p>In contrast to {@link Clock#instant()} none of the methods allocate.
+ *
+ * <p>The precision of the epoch values is that of the underlying clock, e.g. the system clock of
+ * Java 8 has millisecond precision.
+ *
+ * @see ClockSupplier
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public interface PrimitiveClock {
+
+  /**
+   * Returns the current number of milliseconds since the epoch of 1970-01-01T00:00:00Z.
+   *
+   * @return the current epoch milliseconds
+   * @throws ArithmeticException if the current time cannot be represented as a {@code long}
+   */
+  long epochMillis();
+
+  /**
+   * Returns the current number of microseconds since the epoch of 1970-01-01T00:00:00Z.
+   *
+   * @return the current epoch microseconds
+   * @throws ArithmeticException if the current time cannot be represented as a {@code long}
+   */
+  long epochMicros();
+
+  /**
+   * Returns the current number of nanoseconds since the epoch of 1970-01-01T00:00:00Z.
+   *
+   * @return the current epoch nanoseconds
+   * @throws ArithmeticException if the current time cannot be represented as a {@code long}
+   */
+  long epochNanos();
+
+  /**
+   * Returns the current value of a monotonic time source in nanoseconds.
+   *
+   * <p>The value has an arbitrary origin and is only meaningful when compared to other values
+   * returned by this clock.
+   *
+   * @return the current monotonic nanoseconds
+   * @see System#nanoTime()
+   */
+  long monotonicNanos();
+
+  /**
+   * Returns a primitive clock reading the time of the clocks returned by the given supplier.
+   *
+   * <p>The suppliers returned by {@code ClockSupplier} are read without allocation; other suppliers
+   * are adapted and allocate for {@link #epochMicros()} and {@link #epochNanos()}.
+   *
+   * @param supplier the clock supplier, not null
+   * @return a primitive clock
+   * @since 1.1
+   */
+  static PrimitiveClock of(Supplier<Clock> supplier) {
+    requireNonNull(supplier, "supplier");
+
+    return ClockSupplier.primitiveClock(supplier);
+  }
+}
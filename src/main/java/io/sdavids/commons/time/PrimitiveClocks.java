@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.lang.Math.addExact;
+import static java.lang.Math.multiplyExact;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+final class PrimitiveClocks {
+
+  static final long MICROS_PER_MILLI = 1_000L;
+  static final long NANOS_PER_MILLI = 1_000_000L;
+  static final long MICROS_PER_SECOND = 1_000_000L;
+  static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  enum SystemPrimitiveClock implements PrimitiveClock {
+    UTC,
+    DEFAULT_ZONE;
+
+    @Override
+    public long epochMillis() {
+      return System.currentTimeMillis();
+    }
+
+    @Override
+    public long epochMicros() {
+      return System.currentTimeMillis() * MICROS_PER_MILLI;
+    }
+
+    @Override
+    public long epochNanos() {
+      return System.currentTimeMillis() * NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long monotonicNanos() {
+      return System.nanoTime();
+    }
+  }
+
+  static final class FixedPrimitiveClock implements PrimitiveClock {
+
+    private final Instant fixedInstant;
+
+    FixedPrimitiveClock(Instant fixedInstant) {
+      this.fixedInstant = fixedInstant;
+    }
+
+    @Override
+    public long epochMillis() {
+      return fixedInstant.toEpochMilli();
+    }
+
+    @Override
+    public long epochMicros() {
+      return toEpochMicros(fixedInstant);
+    }
+
+    @Override
+    public long epochNanos() {
+      return toEpochNanos(fixedInstant);
+    }
+
+    @Override
+    public long monotonicNanos() {
+      // time does not pass
+      return 0L;
+    }
+
+    @Override
+    public String toString() {
+      return "FixedPrimitiveClock(" + fixedInstant + ')';
+    }
+  }
+
+  static final class ClockAdapter implements PrimitiveClock {
+
+    private final Supplier<Clock> supplier;
+
+    ClockAdapter(Supplier<Clock> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public long epochMillis() {
+      return supplier.get().millis();
+    }
+
+    @Override
+    public long epochMicros() {
+      return toEpochMicros(supplier.get().instant());
+    }
+
+    @Override
+    public long epochNanos() {
+      return toEpochNanos(supplier.get().instant());
+    }
+
+    @Override
+    public long monotonicNanos() {
+      return System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+      return "ClockAdapter(" + supplier + ')';
+    }
+  }
+
+  static long toEpochMicros(Instant instant) {
+    return addExact(
+        multiplyExact(instant.getEpochSecond(), MICROS_PER_SECOND), instant.getNano() / 1_000L);
+  }
+
+  static long toEpochNanos(Instant instant) {
+    return addExact(multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+  }
+
+  private PrimitiveClocks() {
+    // utility class
+  }
+}
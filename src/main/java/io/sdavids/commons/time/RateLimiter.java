@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * Limits the rate at which permits are acquired.
+ *
+ * <p>The current time is read from the clocks returned by the given supplier, i.e. tests may use a
+ * controllable clock. If the clock goes backward no permits are refilled until it has caught up.
+ *
+ * <p>Implementations are thread-safe; no locks are used: the state of a limiter is updated by
+ * compare-and-set.
+ *
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public abstract class RateLimiter {
+
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+
+  private static final int MAX_WINDOW_LIMIT = 0xFFFF;
+
+  private static final int MAX_STRIPES = 64;
+
+  /*
+   * Generic cell rate algorithm: the state is the theoretical arrival time (TAT) of the next
+   * permit in nanoseconds since the creation of the limiter; a request is admitted if the TAT
+   * after the request is at most burst * interval ahead of now.
+   */
+  private static final class TokenBucketRateLimiter extends RateLimiter {
+
+    private final Supplier<Clock> clockSupplier;
+    private final long originMillis;
+    private final long interval;
+    private final long tolerance;
+    private final long burst;
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucketRateLimiter(Supplier<Clock> clockSupplier, long interval, long burst) {
+      this.clockSupplier = clockSupplier;
+      this.interval = interval;
+      this.burst = burst;
+
+      tolerance = Math.multiplyExact(burst, interval);
+      originMillis = clockSupplier.get().millis();
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+      checkPermits(permits);
+
+      if (permits > burst) {
+        return false;
+      }
+
+      long now = (clockSupplier.get().millis() - originMillis) * NANOS_PER_MILLI;
+      long increment = permits * interval;
+
+      long previous;
+      long next;
+      do {
+        previous = theoreticalArrival.get();
+        next = Math.max(previous, now) + increment;
+        if (next - now > tolerance) {
+          return false;
+        }
+      } while (!theoreticalArrival.compareAndSet(previous, next));
+
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      return "RateLimiter.tokenBucket("
+          + clockSupplier
+          + ", "
+          + Duration.ofNanos(interval)
+          + ", "
+          + burst
+          + ')';
+    }
+  }
+
+  /*
+   * Sliding window counter: the estimated count is the count of the previous window weighted by
+   * its overlap with the sliding window plus the count of the current window.
+   *
+   * state: window id (low 32 bits) | previous count (16 bits) | current count (16 bits)
+   *
+   * Window ids are compared modulo 2^32. lastWindowId, the full id of the latest window change,
+   * tells a state idle for 2^31 windows or more, whose id may have wrapped, from a clock that went
+   * backward; it is written once per window, so the acquire path stays a single CAS.
+   */
+  private static final class SlidingWindowRateLimiter extends RateLimiter {
+
+    private static final long MAX_DISTANCE = 1L << 31;
+
+    private final Supplier<Clock> clockSupplier;
+    private final long originMillis;
+    private final long window;
+    private final int limit;
+
+    private final AtomicLong state = new AtomicLong();
+
+    private volatile long lastWindowId;
+
+    SlidingWindowRateLimiter(Supplier<Clock> clockSupplier, int limit, long window) {
+      this.clockSupplier = clockSupplier;
+      this.limit = limit;
+      this.window = window;
+
+      originMillis = clockSupplier.get().millis();
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+      checkPermits(permits);
+
+      if (permits > limit) {
+        return false;
+      }
+
+      long elapsed = Math.max(clockSupplier.get().millis() - originMillis, 0L);
+      long windowId = elapsed / window;
+      long elapsedInWindow = elapsed % window;
+
+      boolean idle = windowId - lastWindowId >= MAX_DISTANCE;
+
+      long previous;
+      long next;
+      int distance;
+      do {
+        previous = state.get();
+
+        int stateWindowId = (int) (previous >>> 32);
+        int previousCount;
+        int currentCount;
+        long overlap;
+
+        distance = idle ? 2 : (int) windowId - stateWindowId;
+        if (distance <= 0) {
+          // same window, or the clock went backward
+          previousCount = (int) (previous >>> 16) & MAX_WINDOW_LIMIT;
+          currentCount = (int) previous & MAX_WINDOW_LIMIT;
+          overlap = distance == 0 ? window - elapsedInWindow : window;
+        } else if (distance == 1) {
+          previousCount = (int) previous & MAX_WINDOW_LIMIT;
+          currentCount = 0;
+          overlap = window - elapsedInWindow;
+        } else {
+          previousCount = 0;
+          currentCount = 0;
+          overlap = 0L;
+        }
+
+        long estimated = previousCount * overlap / window + currentCount;
+        if (estimated + permits > limit) {
+          return false;
+        }
+
+        int nextWindowId = distance < 0 ? stateWindowId : (int) windowId;
+
+        next =
+            ((long) nextWindowId << 32)
+                | ((long) previousCount << 16)
+                | (long) (currentCount + permits);
+      } while (!state.compareAndSet(previous, next));
+
+      if (distance > 0) {
+        lastWindowId = windowId;
+      }
+
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      return "RateLimiter.slidingWindow("
+          + clockSupplier
+          + ", "
+          + limit
+          + ", "
+          + Duration.ofMillis(window)
+          + ')';
+    }
+  }
+
+  /*
+   * Token bucket striped across cells in the style of LongAdder: a thread takes permits from the
+   * cell its id hashes to and only probes the other cells if its own cell is empty. The thread
+   * winning a refill tick drains all cells, adds the permits refilled since the previous tick, caps
+   * the sum at the burst, and spreads it evenly across the cells again. Refills are serialized: two
+   * overlapping refills would each cap only their share of the cells, i.e. up to twice the burst
+   * could be stored.
+   */
+  private static final class StripedRateLimiter extends RateLimiter {
+
+    // one cell per 128 bytes, i.e. cells do not share a cache line
+    private static final int STRIDE = 16;
+
+    private final Supplier<Clock> clockSupplier;
+    private final long originMillis;
+    private final long interval;
+    private final long burst;
+    private final int mask;
+
+    private final AtomicLongArray cells;
+
+    // nanoseconds since the creation of the limiter; guarded by refilling
+    private volatile long lastRefill;
+
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    StripedRateLimiter(Supplier<Clock> clockSupplier, long interval, long burst, int stripes) {
+      this.clockSupplier = clockSupplier;
+      this.interval = interval;
+      this.burst = burst;
+
+      mask = stripes - 1;
+      cells = new AtomicLongArray(stripes * STRIDE);
+      distribute(burst);
+      originMillis = clockSupplier.get().millis();
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+      checkPermits(permits);
+
+      if (permits > burst) {
+        return false;
+      }
+
+      refill();
+
+      int stripe = stripe();
+      for (int i = 0; i <= mask; i++) {
+        if (take(((stripe + i) & mask) * STRIDE, permits)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private int stripe() {
+      long id = Thread.currentThread().getId();
+      return (int) ((id * 0x9E37_79B9_7F4A_7C15L) >>> 32) & mask;
+    }
+
+    private boolean take(int index, int permits) {
+      long available;
+      do {
+        available = cells.get(index);
+        if (available < permits) {
+          return false;
+        }
+      } while (!cells.compareAndSet(index, available, available - permits));
+
+      return true;
+    }
+
+    private void refill() {
+      long now = (clockSupplier.get().millis() - originMillis) * NANOS_PER_MILLI;
+      if (now - lastRefill < interval) {
+        // same tick, or the clock went backward
+        return;
+      }
+
+      if (!refilling.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        long last = lastRefill;
+        long elapsed = now - last;
+        if (elapsed < interval) {
+          // refilled by another thread in the meantime
+          return;
+        }
+
+        long refilled = elapsed / interval;
+        lastRefill = last + refilled * interval;
+
+        long available = 0L;
+        for (int i = 0; i <= mask; i++) {
+          available += cells.getAndSet(i * STRIDE, 0L);
+        }
+
+        distribute(refilled >= burst - available ? burst : available + refilled);
+      } finally {
+        refilling.set(false);
+      }
+    }
+
+    private void distribute(long permits) {
+      long stripes = mask + 1L;
+      long share = permits / stripes;
+      long remainder = permits % stripes;
+      for (int i = 0; i <= mask; i++) {
+        cells.getAndAdd(i * STRIDE, i < remainder ? share + 1L : share);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "RateLimiter.striped("
+          + clockSupplier
+          + ", "
+          + Duration.ofNanos(interval)
+          + ", "
+          + burst
+          + ", "
+          + (mask + 1)
+          + ')';
+    }
+  }
+
+  RateLimiter() {
+    // implemented by the nested classes only
+  }
+
+  /**
+   * Creates a token bucket limiter.
+   *
+   * <p>The bucket starts full. Permits are refilled continuously: one every {@code period /
+   * permits}.
+   *
+   * @param clockSupplier the supplier of the clocks the current time is read from, not null
+   * @param permits the number of permits refilled per period
+   * @param period the period, not null
+   * @param burst the capacity of the bucket, i.e. the number of permits that may be acquired at
+   *     once
+   * @return a new limiter
+   * @throws IllegalArgumentException if {@code permits} or {@code burst} is not positive or {@code
+   *     period / permits} is less than one nanosecond
+   * @since 1.1
+   */
+  public static RateLimiter tokenBucket(
+      Supplier<Clock> clockSupplier, long permits, Duration period, long burst) {
+
+    requireNonNull(clockSupplier, "clockSupplier");
+
+    long interval = interval(permits, period, burst);
+
+    return new TokenBucketRateLimiter(clockSupplier, interval, burst);
+  }
+
+  private static long interval(long permits, Duration period, long burst) {
+    requireNonNull(period, "period");
+
+    if (permits < 1L) {
+      throw new IllegalArgumentException("permits must be positive: " + permits);
+    }
+    if (burst < 1L) {
+      throw new IllegalArgumentException("burst must be positive: " + burst);
+    }
+
+    long interval = period.toNanos() / permits;
+    if (interval < 1L) {
+      throw new IllegalArgumentException(
+          "period / permits must be at least one nanosecond: " + period + " / " + permits);
+    }
+    return interval;
+  }
+
+  /**
+   * Creates a striped token bucket limiter for heavily contended use.
+   *
+   * <p>The permits are spread across one cell per available processor (at most 64); threads acquire
+   * from different cells, so they rarely contend on the same memory. The cells are rebalanced on
+   * each refill, i.e. at most once every {@code period / permits}, but not earlier than the clock
+   * ticks.
+   *
+   * <p>The limiter is less exact than {@link #tokenBucket(Supplier, long, Duration, long)}: permits
+   * are acquired from a single cell, so a request for more than one permit may be refused while the
+   * permits are available across cells, and a request racing a refill may be refused.
+   *
+   * @param clockSupplier the supplier of the clocks the current time is read from, not null
+   * @param permits the number of permits refilled per period
+   * @param period the period, not null
+   * @param burst the capacity of the bucket
+   * @return a new limiter
+   * @throws IllegalArgumentException if {@code permits} or {@code burst} is not positive or {@code
+   *     period / permits} is less than one nanosecond
+   * @since 1.1
+   */
+  public static RateLimiter striped(
+      Supplier<Clock> clockSupplier, long permits, Duration period, long burst) {
+
+    requireNonNull(clockSupplier, "clockSupplier");
+
+    long interval = interval(permits, period, burst);
+
+    int processors = Runtime.getRuntime().availableProcessors();
+    int stripes = Math.min(Integer.highestOneBit(Math.max(processors * 2 - 1, 1)), MAX_STRIPES);
+
+    return new StripedRateLimiter(clockSupplier, interval, burst, stripes);
+  }
+
+  /**
+   * Creates a sliding window limiter.
+   *
+   * <p>The number of permits acquired in the sliding window is estimated from the counts of the
+   * current and the previous fixed window, assuming the previous window's permits were acquired
+   * evenly.
+   *
+   * @param clockSupplier the supplier of the clocks the current time is read from, not null
+   * @param limit the maximum number of permits per window, from 1 to 65535
+   * @param window the window, not null, at least one millisecond
+   * @return a new limiter
+   * @throws IllegalArgumentException if {@code limit} is out of range or {@code window} is less
+   *     than one millisecond
+   * @since 1.1
+   */
+  public static RateLimiter slidingWindow(
+      Supplier<Clock> clockSupplier, int limit, Duration window) {
+
+    requireNonNull(clockSupplier, "clockSupplier");
+    requireNonNull(window, "window");
+
+    if (limit < 1 || limit > MAX_WINDOW_LIMIT) {
+      throw new IllegalArgumentException(
+          "limit must be between 1 and " + MAX_WINDOW_LIMIT + ": " + limit);
+    }
+    if (window.compareTo(Duration.ofMillis(1L)) < 0) {
+      throw new IllegalArgumentException("window must be at least one millisecond");
+    }
+
+    return new SlidingWindowRateLimiter(clockSupplier, limit, window.toMillis());
+  }
+
+  private static void checkPermits(int permits) {
+    if (permits < 1) {
+      throw new IllegalArgumentException("permits must be positive: " + permits);
+    }
+  }
+
+  /**
+   * Acquires a permit if it is available.
+   *
+   * @return true if the permit was acquired
+   * @since 1.1
+   */
+  public final boolean tryAcquire() {
+    return tryAcquire(1);
+  }
+
+  /**
+   * Acquires the given number of permits if they are available.
+   *
+   * <p>Either all or none of the permits are acquired.
+   *
+   * @param permits the number of permits
+   * @return true if the permits were acquired
+   * @throws IllegalArgumentException if {@code permits} is not positive
+   * @since 1.1
+   */
+  public abstract boolean tryAcquire(int permits);
+}
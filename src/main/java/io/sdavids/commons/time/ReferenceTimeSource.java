@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * A source of reference time sampled by a {@link ClockOffsetEstimator}, e.g. a time server.
+ *
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+@FunctionalInterface
+public interface ReferenceTimeSource {
+
+  /**
+   * Queries the current reference time.
+   *
+   * <p>The round trip of the query should be as short and as symmetric as possible; the reference
+   * time is assumed to have been taken halfway through it.
+   *
+   * @return the reference time in epoch nanoseconds
+   * @throws IOException if the reference cannot be queried
+   * @since 1.1
+   */
+  long epochNanos() throws IOException;
+
+  /**
+   * Returns an in-process reference time source reading the clocks of the given supplier.
+   *
+   * @param supplier the clock supplier, not null
+   * @return a reference time source
+   * @since 1.1
+   */
+  static ReferenceTimeSource of(Supplier<Clock> supplier) {
+    requireNonNull(supplier, "supplier");
+
+    PrimitiveClock clock = PrimitiveClock.of(supplier);
+
+    return clock::epochNanos;
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.PrimitiveClocks.NANOS_PER_MILLI;
+import static io.sdavids.commons.time.PrimitiveClocks.NANOS_PER_SECOND;
+import static java.lang.Math.addExact;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import javax.annotation.CheckForNull;
+
+/**
+ * A clock running {@code rate} times as fast as a base clock, starting at an origin.
+ *
+ * <p>The elapsed time of the base clock since the creation of the clock is scaled; the scaled time
+ * is {@code origin + elapsed * rate}. Reading the clock does not allocate if the base clock does
+ * not.
+ */
+final class ScaledClock extends Clock implements PrimitiveClock {
+
+  static final class Source {
+
+    private final PrimitiveClock base;
+    private final double rate;
+    private final long originNanos;
+    private final long anchorNanos;
+    private final long anchorMonotonicNanos;
+
+    Source(PrimitiveClock base, double rate, long originNanos) {
+      this.base = base;
+      this.rate = rate;
+      this.originNanos = originNanos;
+
+      anchorNanos = base.epochNanos();
+      anchorMonotonicNanos = base.monotonicNanos();
+    }
+
+    long epochNanos() {
+      return addExact(originNanos, (long) ((base.epochNanos() - anchorNanos) * rate));
+    }
+
+    long monotonicNanos() {
+      return (long) ((base.monotonicNanos() - anchorMonotonicNanos) * rate);
+    }
+  }
+
+  private final ZoneId zone;
+  private final Source source;
+
+  ScaledClock(ZoneId zone, Source source) {
+    this.zone = zone;
+    this.source = source;
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  @Override
+  public Clock withZone(ZoneId zone) {
+    requireNonNull(zone, "zone");
+
+    return zone.equals(this.zone) ? this : new ScaledClock(zone, source);
+  }
+
+  @Override
+  public long millis() {
+    return floorDiv(source.epochNanos(), NANOS_PER_MILLI);
+  }
+
+  @Override
+  public Instant instant() {
+    long epochNanos = source.epochNanos();
+
+    return Instant.ofEpochSecond(
+        floorDiv(epochNanos, NANOS_PER_SECOND), floorMod(epochNanos, NANOS_PER_SECOND));
+  }
+
+  @Override
+  public long epochMillis() {
+    return millis();
+  }
+
+  @Override
+  public long epochMicros() {
+    return floorDiv(source.epochNanos(), 1_000L);
+  }
+
+  @Override
+  public long epochNanos() {
+    return source.epochNanos();
+  }
+
+  @Override
+  public long monotonicNanos() {
+    return source.monotonicNanos();
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object obj) {
+    if (!(obj instanceof ScaledClock)) {
+      return false;
+    }
+
+    ScaledClock other = (ScaledClock) obj;
+
+    return zone.equals(other.zone) && source == other.source;
+  }
+
+  @Override
+  public int hashCode() {
+    return zone.hashCode() + 4;
+  }
+
+  @Override
+  public String toString() {
+    return "ScaledClock[" + zone + ']';
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * Generates time-ordered 64 bit identifiers.
+ *
+ * <p>An identifier consists of (from most to least significant bit):
+ *
+ * <ul>
+ *   <li>a zero sign bit
+ *   <li>the milliseconds since the generator's epoch
+ *   <li>the node id
+ *   <li>a sequence number
+ * </ul>
+ *
+ * <p>The default layout uses 41 bits for the timestamp, 10 bits for the node id, and 12 bits for
+ * the sequence number.
+ *
+ * <p>If the sequence number of a millisecond is exhausted the timestamp is incremented instead of
+ * waiting for the clock; the timestamp falls back in line with the clock once the load drops. The
+ * same happens if the clock goes backward, i.e. the identifiers generated by a generator are
+ * strictly increasing.
+ *
+ * <p>This class is thread-safe; no locks are used.
+ *
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class SnowflakeIdGenerator implements LongSupplier {
+
+  /**
+   * The default epoch: 2017-01-01T00:00:00Z.
+   *
+   * @since 1.1
+   */
+  public static final Instant DEFAULT_EPOCH = Instant.ofEpochSecond(1_483_228_800L);
+
+  private static final int DEFAULT_NODE_BITS = 10;
+
+  private static final int DEFAULT_SEQUENCE_BITS = 12;
+
+  private final Supplier<Clock> clockSupplier;
+  private final long epochMillis;
+  private final int nodeBits;
+  private final int sequenceBits;
+  private final long node;
+  private final long maxTimestamp;
+
+  private final AtomicLong last = new AtomicLong();
+
+  private SnowflakeIdGenerator(
+      Supplier<Clock> clockSupplier, int nodeId, Instant epoch, int nodeBits, int sequenceBits) {
+
+    this.clockSupplier = requireNonNull(clockSupplier, "clockSupplier");
+    epochMillis = requireNonNull(epoch, "epoch").toEpochMilli();
+
+    if (nodeBits < 0 || sequenceBits < 0 || nodeBits + sequenceBits > 31) {
+      throw new IllegalArgumentException(
+          "nodeBits + sequenceBits must be at most 31: " + nodeBits + " + " + sequenceBits);
+    }
+    if (nodeId < 0 || nodeId >= 1 << nodeBits) {
+      throw new IllegalArgumentException(
+          "nodeId must be between 0 and " + ((1 << nodeBits) - 1) + ": " + nodeId);
+    }
+
+    this.nodeBits = nodeBits;
+    this.sequenceBits = sequenceBits;
+    node = (long) nodeId << sequenceBits;
+    maxTimestamp = Long.MAX_VALUE >>> (nodeBits + sequenceBits);
+  }
+
+  /**
+   * Creates a generator using the default layout and epoch.
+   *
+   * @param clockSupplier the supplier of the clocks the timestamps are read from, not null
+   * @param nodeId the id of this node, from 0 to 1023
+   * @return a new generator
+   * @throws IllegalArgumentException if {@code nodeId} is out of range
+   * @see #DEFAULT_EPOCH
+   * @since 1.1
+   */
+  public static SnowflakeIdGenerator create(Supplier<Clock> clockSupplier, int nodeId) {
+    return new SnowflakeIdGenerator(
+        clockSupplier, nodeId, DEFAULT_EPOCH, DEFAULT_NODE_BITS, DEFAULT_SEQUENCE_BITS);
+  }
+
+  /**
+   * Creates a generator.
+   *
+   * <p>The timestamp uses the {@code 63 - nodeBits - sequenceBits} bits not used by the node id and
+   * sequence number.
+   *
+   * @param clockSupplier the supplier of the clocks the timestamps are read from, not null
+   * @param nodeId the id of this node, from 0 to {@code 2^nodeBits - 1}
+   * @param epoch the instant of timestamp 0, not null
+   * @param nodeBits the number of bits of the node id
+   * @param sequenceBits the number of bits of the sequence number
+   * @return a new generator
+   * @throws IllegalArgumentException if {@code nodeBits + sequenceBits} is greater than 31 or
+   *     {@code nodeId} is out of range
+   * @since 1.1
+   */
+  public static SnowflakeIdGenerator create(
+      Supplier<Clock> clockSupplier, int nodeId, Instant epoch, int nodeBits, int sequenceBits) {
+
+    return new SnowflakeIdGenerator(clockSupplier, nodeId, epoch, nodeBits, sequenceBits);
+  }
+
+  /**
+   * Generates an identifier.
+   *
+   * @return a positive identifier
+   * @throws IllegalStateException if the timestamp does not fit into the layout anymore
+   */
+  @Override
+  public long getAsLong() {
+    long timestamp = Math.max(clockSupplier.get().millis() - epochMillis, 0L);
+    if (timestamp > maxTimestamp) {
+      throw new IllegalStateException("timestamp exceeds layout: " + timestamp);
+    }
+
+    long candidate = timestamp << sequenceBits;
+
+    long previous;
+    long next;
+    do {
+      previous = last.get();
+      next = Math.max(previous + 1L, candidate);
+    } while (!last.compareAndSet(previous, next));
+
+    if (next >>> sequenceBits > maxTimestamp) {
+      throw new IllegalStateException("timestamp exceeds layout: " + (next >>> sequenceBits));
+    }
+
+    return (next >>> sequenceBits) << (nodeBits + sequenceBits)
+        | node
+        | (next & ((1L << sequenceBits) - 1L));
+  }
+
+  /**
+   * Obtains the timestamp of the given identifier.
+   *
+   * @param id an identifier generated by this generator
+   * @return the timestamp in epoch milliseconds
+   * @since 1.1
+   */
+  public long epochMillis(long id) {
+    return (id >>> (nodeBits + sequenceBits)) + epochMillis;
+  }
+
+  /**
+   * Obtains the node id of the given identifier.
+   *
+   * @param id an identifier generated by this generator
+   * @return the node id
+   * @since 1.1
+   */
+  public int nodeId(long id) {
+    return (int) ((id >>> sequenceBits) & ((1L << nodeBits) - 1L));
+  }
+
+  /**
+   * Obtains the sequence number of the given identifier.
+   *
+   * @param id an identifier generated by this generator
+   * @return the sequence number
+   * @since 1.1
+   */
+  public int sequence(long id) {
+    return (int) (id & ((1L << sequenceBits) - 1L));
+  }
+
+  @Override
+  public String toString() {
+    return "SnowflakeIdGenerator(" + clockSupplier + ", " + (node >>> sequenceBits) + ')';
+  }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.EpochCalendar.MILLIS_PER_DAY;
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * Maps epoch milliseconds to the ids of time buckets.
+ *
+ * <p>Bucket ids are consecutive {@code long}s: the id of a fixed-width bucket is the number of
+ * widths since the epoch; the id of a zone-aligned bucket is the number of minutes, hours, or days
+ * since 1970-01-01T00:00 local time.
+ *
+ * <p>Zone-aligned buckets follow the local time: a local hour repeated when the clocks go back maps
+ * two UTC hours to the same bucket, a skipped local hour has no instants.
+ *
+ * <p>Implementations are immutable and thread-safe.
+ *
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public abstract class TimeBuckets {
+
+  private static final int DEFAULT_FROM_YEAR = 1970;
+
+  private static final int DEFAULT_TO_YEAR = 2100;
+
+  private static final class FixedTimeBuckets extends TimeBuckets {
+
+    private final long width;
+
+    FixedTimeBuckets(long width) {
+      this.width = width;
+    }
+
+    @Override
+    public long bucket(long epochMillis) {
+      return Math.floorDiv(epochMillis, width);
+    }
+
+    @Override
+    public long start(long bucket) {
+      return bucket * width;
+    }
+
+    @Override
+    public void buckets(long[] src, int srcOffset, long[] dst, int dstOffset, int length) {
+      checkBatch(src, srcOffset, dst, dstOffset, length);
+
+      long w = width;
+      for (int i = 0; i < length; i++) {
+        dst[dstOffset + i] = Math.floorDiv(src[srcOffset + i], w);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "TimeBuckets.fixed(" + Duration.ofMillis(width) + ')';
+    }
+  }
+
+  private static final class ZoneAlignedTimeBuckets extends TimeBuckets {
+
+    private final ZoneOffsetCache offsets;
+    private final long width;
+    private final String name;
+
+    ZoneAlignedTimeBuckets(ZoneOffsetCache offsets, long width, String name) {
+      this.offsets = requireNonNull(offsets, "offsets");
+      this.width = width;
+      this.name = name;
+    }
+
+    @Override
+    public long bucket(long epochMillis) {
+      return Math.floorDiv(
+          epochMillis + offsets.offsetSecondsOfEpochMilli(epochMillis) * 1_000L, width);
+    }
+
+    @Override
+    public long start(long bucket) {
+      long local = bucket * width;
+      // the offset in effect at the start of the bucket
+      long guess = local - offsets.offsetSecondsOfEpochMilli(local) * 1_000L;
+      return local - offsets.offsetSecondsOfEpochMilli(guess) * 1_000L;
+    }
+
+    @Override
+    public void buckets(long[] src, int srcOffset, long[] dst, int dstOffset, int length) {
+      checkBatch(src, srcOffset, dst, dstOffset, length);
+
+      long w = width;
+      for (int i = 0; i < length; i++) {
+        long epochMillis = src[srcOffset + i];
+        dst[dstOffset + i] =
+            Math.floorDiv(epochMillis + offsets.offsetSecondsOfEpochMilli(epochMillis) * 1_000L, w);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "TimeBuckets." + name + '(' + offsets.zone() + ')';
+    }
+  }
+
+  TimeBuckets() {
+    // implemented by the nested classes only
+  }
+
+  /**
+   * Obtains fixed-width buckets aligned to the epoch.
+   *
+   * @param width the width of a bucket, not null, a positive whole number of milliseconds
+   * @return the buckets
+   * @throws IllegalArgumentException if {@code width} is less than one millisecond or not a whole
+   *     number of milliseconds
+   * @throws ArithmeticException if {@code width} does not fit into a {@code long} of milliseconds
+   * @since 1.1
+   */
+  public static TimeBuckets fixed(Duration width) {
+    requireNonNull(width, "width");
+
+    if (width.compareTo(Duration.ofMillis(1L)) < 0) {
+      throw new IllegalArgumentException("width must be at least one millisecond");
+    }
+    if (width.getNano() % 1_000_000 != 0) {
+      throw new IllegalArgumentException("width must be a whole number of milliseconds: " + width);
+    }
+
+    return new FixedTimeBuckets(width.toMillis());
+  }
+
+  /**
+   * Obtains minute buckets aligned to the local time of the given zone.
+   *
+   * <p>The offsets of the years 1970 to 2100 are precomputed.
+   *
+   * @param zone the zone, not null
+   * @return the buckets
+   * @since 1.1
+   */
+  public static TimeBuckets minutes(ZoneId zone) {
+    return minutes(defaultOffsets(zone));
+  }
+
+  /**
+   * Obtains minute buckets aligned to the local time of the zone of the given offsets.
+   *
+   * @param offsets the offsets of the zone, not null
+   * @return the buckets
+   * @since 1.1
+   */
+  public static TimeBuckets minutes(ZoneOffsetCache offsets) {
+    return new ZoneAlignedTimeBuckets(offsets, 60_000L, "minutes");
+  }
+
+  /**
+   * Obtains hour buckets aligned to the local time of the given zone.
+   *
+   * <p>The offsets of the years 1970 to 2100 are precomputed.
+   *
+   * @param zone the zone, not null
+   * @return the buckets
+   * @since 1.1
+   */
+  public static TimeBuckets hours(ZoneId zone) {
+    return hours(defaultOffsets(zone));
+  }
+
+  /**
+   * Obtains hour buckets aligned to the local time of the zone of the given offsets.
+   *
+   * @param offsets the offsets of the zone, not null
+   * @return the buckets
+   * @since 1.1
+   */
+  public static TimeBuckets hours(ZoneOffsetCache offsets) {
+    return new ZoneAlignedTimeBuckets(offsets, 3_600_000L, "hours");
+  }
+
+  /**
+   * Obtains day buckets aligned to the local time of the given zone.
+   *
+   * <p>The offsets of the years 1970 to 2100 are precomputed.
+   *
+   * @param zone the zone, not null
+   * @return the buckets
+   * @since 1.1
+   */
+  public static TimeBuckets days(ZoneId zone) {
+    return days(defaultOffsets(zone));
+  }
+
+  /**
+   * Obtains day buckets aligned to the local time of the zone of the given offsets.
+   *
+   * <p>The bucket id is the local epoch day.
+   *
+   * @param offsets the offsets of the zone, not null
+   * @return the buckets
+   * @since 1.1
+   */
+  public static TimeBuckets days(ZoneOffsetCache offsets) {
+    return new ZoneAlignedTimeBuckets(offsets, MILLIS_PER_DAY, "days");
+  }
+
+  private static ZoneOffsetCache defaultOffsets(ZoneId zone) {
+    return ZoneOffsetCache.of(requireNonNull(zone, "zone"), DEFAULT_FROM_YEAR, DEFAULT_TO_YEAR);
+  }
+
+  private static void checkBatch(long[] src, int srcOffset, long[] dst, int dstOffset, int length) {
+    requireNonNull(src, "src");
+    requireNonNull(dst, "dst");
+
+    if (length < 0
+        || srcOffset < 0
+        || dstOffset < 0
+        || srcOffset > src.length - length
+        || dstOffset > dst.length - length) {
+      throw new IndexOutOfBoundsException(
+          "srcOffset: "
+              + srcOffset
+              + ", dstOffset: "
+              + dstOffset
+              + ", length: "
+              + length
+              + ", src.length: "
+              + src.length
+              + ", dst.length: "
+              + dst.length);
+    }
+  }
+
+  /**
+   * Returns the id of the bucket containing the given instant.
+   *
+   * @param epochMillis the instant in epoch milliseconds
+   * @return the bucket id
+   * @since 1.1
+   */
+  public abstract long bucket(long epochMillis);
+
+  /**
+   * Returns the start of the given bucket.
+   *
+   * @param bucket the bucket id
+   * @return the first instant of the bucket in epoch milliseconds
+   * @since 1.1
+   */
+  public abstract long start(long bucket);
+
+  /**
+   * Stores the bucket ids of the given instants into the given array.
+   *
+   * <p>{@code src} and {@code dst} may be the same array.
+   *
+   * @param src the instants in epoch milliseconds, not null
+   * @param srcOffset the index of the first instant
+   * @param dst the destination, not null
+   * @param dstOffset the index the first bucket id is stored at
+   * @param length the number of instants
+   * @throws IndexOutOfBoundsException if a range is out of bounds
+   * @since 1.1
+   */
+  public abstract void buckets(long[] src, int srcOffset, long[] dst, int dstOffset, int length);
+
+  /**
+   * Returns the id of the bucket containing the current time.
+   *
+   * @param clockSupplier the supplier of the clocks the current time is read from, not null
+   * @return the bucket id
+   * @since 1.1
+   */
+  public final long currentBucket(Supplier<Clock> clockSupplier) {
+    requireNonNull(clockSupplier, "clockSupplier");
+
+    return bucket(clockSupplier.get().millis());
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * Generates time-ordered version 7 UUIDs.
+ *
+ * <p>The 48 bit timestamp is read from the clocks returned by the given supplier; the 12 bits
+ * following the version are a per-thread counter started at a random value for each millisecond,
+ * the remaining 62 bits are random. If the counter overflows the timestamp is incremented.
+ *
+ * <p>UUIDs generated by the same thread are strictly increasing; UUIDs generated by different
+ * threads within the same millisecond are not ordered.
+ *
+ * <p>This class is thread-safe; no locks are used. Random bits are taken from {@link
+ * ThreadLocalRandom}, i.e. the UUIDs are not suitable as security tokens.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9562#name-uuid-version-7">RFC 9562: UUID Version
+ *     7</a>
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class UuidV7Generator implements Supplier<UUID> {
+
+  private static final long TIMESTAMP_MASK = 0xFFFF_FFFF_FFFFL;
+
+  private static final int MAX_COUNTER = 0xFFF;
+
+  private static final long VERSION = 0x7000L;
+
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+
+  private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  private static final class State {
+
+    long millis = Long.MIN_VALUE;
+    int counter;
+  }
+
+  private final Supplier<Clock> clockSupplier;
+
+  private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+  private UuidV7Generator(Supplier<Clock> clockSupplier) {
+    this.clockSupplier = clockSupplier;
+  }
+
+  /**
+   * Creates a UUID version 7 generator.
+   *
+   * @param clockSupplier the supplier of the clocks the timestamps are read from, not null
+   * @return a new generator
+   * @since 1.1
+   */
+  public static UuidV7Generator create(Supplier<Clock> clockSupplier) {
+    return new UuidV7Generator(requireNonNull(clockSupplier, "clockSupplier"));
+  }
+
+  /**
+   * Obtains the timestamp of the given version 7 UUID.
+   *
+   * @param uuid a version 7 UUID, not null
+   * @return the timestamp in epoch milliseconds
+   * @throws IllegalArgumentException if {@code uuid} is not a version 7 UUID
+   * @since 1.1
+   */
+  public static long epochMillis(UUID uuid) {
+    if (uuid.version() != 7) {
+      throw new IllegalArgumentException("not a version 7 UUID: " + uuid);
+    }
+    return uuid.getMostSignificantBits() >>> 16;
+  }
+
+  /**
+   * Generates a UUID.
+   *
+   * @return a version 7 UUID
+   */
+  @Override
+  public UUID get() {
+    long millis = clockSupplier.get().millis() & TIMESTAMP_MASK;
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    State current = state.get();
+    if (millis > current.millis) {
+      current.millis = millis;
+      // leave room for at least 2048 increments
+      current.counter = random.nextInt(MAX_COUNTER >> 1);
+    } else if (current.counter < MAX_COUNTER) {
+      current.counter++;
+    } else {
+      current.millis++;
+      current.counter = 0;
+    }
+
+    long mostSigBits = current.millis << 16 | VERSION | current.counter;
+    long leastSigBits = (random.nextLong() & RANDOM_MASK) | VARIANT;
+
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  @Override
+  public String toString() {
+    return "UuidV7Generator(" + clockSupplier + ')';
+  }
+}
@@ -0,0 +1,572 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.PrimitiveClocks.NANOS_PER_MILLI;
+import static io.sdavids.commons.time.PrimitiveClocks.NANOS_PER_SECOND;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import javax.annotation.CheckForNull;
+import org.apiguardian.api.API;
+
+/**
+ * A clock supplier whose time only passes when it is advanced programmatically.
+ *
+ * <p>In contrast to {@link ClockSupplier#fixedClockSupplier(Instant, ZoneId)} the time can be moved
+ * forward; it never moves backward. The clocks returned by {@link #get()} read the current virtual
+ * time, i.e. a clock obtained once observes later advances; they implement {@link PrimitiveClock}.
+ *
+ * <p>Tasks scheduled with the {@link #executor() executor} are run on the advancing thread, in the
+ * order of their virtual due time, and observe the virtual time they were due at. Simulations can
+ * jump from one scheduled event to the next with {@link #advanceToNextEvent()} instead of waiting.
+ *
+ * <p>This class is thread-safe. Advances are serialized; tasks run by an advance may schedule
+ * further tasks and advance the time themselves.
+ *
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class VirtualClockSupplier implements Supplier<Clock> {
+
+  private static final class VirtualClock extends Clock implements PrimitiveClock {
+
+    private final ZoneId zone;
+    private final AtomicLong epochNanos;
+    private final long originNanos;
+
+    VirtualClock(ZoneId zone, AtomicLong epochNanos, long originNanos) {
+      this.zone = zone;
+      this.epochNanos = epochNanos;
+      this.originNanos = originNanos;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      requireNonNull(zone, "zone");
+
+      return zone.equals(this.zone) ? this : new VirtualClock(zone, epochNanos, originNanos);
+    }
+
+    @Override
+    public long millis() {
+      return floorDiv(epochNanos.get(), NANOS_PER_MILLI);
+    }
+
+    @Override
+    public Instant instant() {
+      long nanos = epochNanos.get();
+
+      return Instant.ofEpochSecond(
+          floorDiv(nanos, NANOS_PER_SECOND), floorMod(nanos, NANOS_PER_SECOND));
+    }
+
+    @Override
+    public long epochMillis() {
+      return millis();
+    }
+
+    @Override
+    public long epochMicros() {
+      return floorDiv(epochNanos.get(), 1_000L);
+    }
+
+    @Override
+    public long epochNanos() {
+      return epochNanos.get();
+    }
+
+    @Override
+    public long monotonicNanos() {
+      return epochNanos.get() - originNanos;
+    }
+
+    @Override
+    public boolean equals(@CheckForNull Object obj) {
+      if (!(obj instanceof VirtualClock)) {
+        return false;
+      }
+
+      VirtualClock other = (VirtualClock) obj;
+
+      return zone.equals(other.zone) && epochNanos.equals(other.epochNanos);
+    }
+
+    @Override
+    public int hashCode() {
+      return zone.hashCode() + 3;
+    }
+
+    @Override
+    public String toString() {
+      return "VirtualClock[" + zone + ']';
+    }
+  }
+
+  private final class VirtualTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+    private final long sequence;
+
+    // positive: fixed rate, negative: fixed delay, zero: one-shot
+    private final long period;
+
+    private long time;
+
+    VirtualTask(Callable<V> callable, long time) {
+      super(callable);
+      this.time = time;
+      period = 0L;
+      sequence = sequencer.getAndIncrement();
+    }
+
+    VirtualTask(Runnable runnable, long time, long period) {
+      super(runnable, null);
+      this.time = time;
+      this.period = period;
+      sequence = sequencer.getAndIncrement();
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return period != 0L;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(time - epochNanos.get(), NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      if (other == this) {
+        return 0;
+      }
+      if (other instanceof VirtualTask) {
+        VirtualTask<?> task = (VirtualTask<?>) other;
+        int result = Long.compare(time, task.time);
+        return result == 0 ? Long.compare(sequence, task.sequence) : result;
+      }
+      return Long.compare(getDelay(NANOSECONDS), other.getDelay(NANOSECONDS));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        dequeue(this);
+      }
+      return cancelled;
+    }
+
+    @Override
+    public void run() {
+      if (isPeriodic()) {
+        if (runAndReset()) {
+          time = period > 0L ? time + period : epochNanos.get() - period;
+          if (!shutdown) {
+            enqueue(this);
+          }
+        }
+      } else {
+        super.run();
+      }
+    }
+  }
+
+  private final class VirtualScheduledExecutorService extends AbstractExecutorService
+      implements ScheduledExecutorService {
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      requireNonNull(command, "command");
+      requireNonNull(unit, "unit");
+
+      VirtualTask<Void> task = new VirtualTask<>(command, dueTime(delay, unit), 0L);
+      accept(task);
+      return task;
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+      requireNonNull(callable, "callable");
+      requireNonNull(unit, "unit");
+
+      VirtualTask<V> task = new VirtualTask<>(callable, dueTime(delay, unit));
+      accept(task);
+      return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(
+        Runnable command, long initialDelay, long period, TimeUnit unit) {
+
+      requireNonNull(command, "command");
+      requireNonNull(unit, "unit");
+
+      if (period <= 0L) {
+        throw new IllegalArgumentException("period must be positive: " + period);
+      }
+
+      VirtualTask<Void> task =
+          new VirtualTask<>(command, dueTime(initialDelay, unit), unit.toNanos(period));
+      accept(task);
+      return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(
+        Runnable command, long initialDelay, long delay, TimeUnit unit) {
+
+      requireNonNull(command, "command");
+      requireNonNull(unit, "unit");
+
+      if (delay <= 0L) {
+        throw new IllegalArgumentException("delay must be positive: " + delay);
+      }
+
+      VirtualTask<Void> task =
+          new VirtualTask<>(command, dueTime(initialDelay, unit), -unit.toNanos(delay));
+      accept(task);
+      return task;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      requireNonNull(command, "command");
+
+      accept(new VirtualTask<Void>(command, dueTime(0L, NANOSECONDS), 0L));
+    }
+
+    @Override
+    public void shutdown() {
+      List<VirtualTask<?>> periodic = new ArrayList<>();
+
+      lock.lock();
+      try {
+        shutdown = true;
+        for (VirtualTask<?> task : queue) {
+          if (task.isPeriodic()) {
+            periodic.add(task);
+          }
+        }
+        queue.removeAll(periodic);
+      } finally {
+        lock.unlock();
+      }
+
+      for (VirtualTask<?> task : periodic) {
+        task.cancel(false);
+      }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      List<Runnable> pending;
+
+      lock.lock();
+      try {
+        shutdown = true;
+        pending = new ArrayList<>(queue);
+        queue.clear();
+      } finally {
+        lock.unlock();
+      }
+
+      for (Runnable task : pending) {
+        ((VirtualTask<?>) task).cancel(false);
+      }
+
+      return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      lock.lock();
+      try {
+        return shutdown && queue.isEmpty();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Returns immediately: the remaining tasks only run when the time is advanced.
+     *
+     * @return true if this executor has terminated
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return isTerminated();
+    }
+
+    private long dueTime(long delay, TimeUnit unit) {
+      long delayNanos = Math.max(unit.toNanos(delay), 0L);
+      long now = epochNanos.get();
+
+      return delayNanos >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + delayNanos;
+    }
+
+    private void accept(VirtualTask<?> task) {
+      if (shutdown) {
+        throw new RejectedExecutionException("executor shut down");
+      }
+      enqueue(task);
+    }
+
+    @Override
+    public String toString() {
+      return VirtualClockSupplier.this + ".executor()";
+    }
+  }
+
+  private final AtomicLong epochNanos;
+  private final VirtualClock clock;
+  private final ZoneId zone;
+
+  private final AtomicLong sequencer = new AtomicLong();
+
+  // guards queue
+  private final ReentrantLock lock = new ReentrantLock();
+
+  // serializes advances
+  private final ReentrantLock advanceLock = new ReentrantLock();
+
+  private final PriorityQueue<VirtualTask<?>> queue = new PriorityQueue<>();
+
+  private final VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService();
+
+  private volatile boolean shutdown;
+
+  private VirtualClockSupplier(long epochNanos, ZoneId zone) {
+    this.epochNanos = new AtomicLong(epochNanos);
+    this.zone = zone;
+
+    clock = new VirtualClock(zone, this.epochNanos, epochNanos);
+  }
+
+  /**
+   * Creates a virtual clock supplier in the UTC time-zone.
+   *
+   * @param start the initial time, not null
+   * @return a new clock supplier
+   * @throws ArithmeticException if {@code start} cannot be represented as epoch nanoseconds
+   * @since 1.1
+   */
+  public static VirtualClockSupplier create(Instant start) {
+    return create(start, ZoneOffset.UTC);
+  }
+
+  /**
+   * Creates a virtual clock supplier.
+   *
+   * @param start the initial time, not null
+   * @param zone the time-zone of the clocks, not null
+   * @return a new clock supplier
+   * @throws ArithmeticException if {@code start} cannot be represented as epoch nanoseconds
+   * @since 1.1
+   */
+  public static VirtualClockSupplier create(Instant start, ZoneId zone) {
+    requireNonNull(start, "start");
+    requireNonNull(zone, "zone");
+
+    return new VirtualClockSupplier(PrimitiveClocks.toEpochNanos(start), zone);
+  }
+
+  /**
+   * Returns a clock reading the current virtual time.
+   *
+   * <p>The same instance is returned by every call; it implements {@link PrimitiveClock}.
+   *
+   * @return the clock
+   */
+  @Override
+  public Clock get() {
+    return clock;
+  }
+
+  PrimitiveClock primitiveClock() {
+    return clock;
+  }
+
+  /**
+   * Returns the executor whose tasks are run in virtual time.
+   *
+   * <p>Tasks are run when the time is advanced to or beyond their due time; {@code execute} and
+   * tasks with a non-positive delay are run by the next advance, e.g. {@code
+   * advance(Duration.ZERO)}.
+   *
+   * @return the executor
+   * @since 1.1
+   */
+  public ScheduledExecutorService executor() {
+    return executor;
+  }
+
+  /**
+   * Advances the time by the given duration, running the tasks due in between.
+   *
+   * @param duration the duration, not null, not negative
+   * @return the number of tasks run
+   * @throws IllegalArgumentException if {@code duration} is negative
+   * @throws ArithmeticException if the resulting time cannot be represented as epoch nanoseconds
+   * @since 1.1
+   */
+  public int advance(Duration duration) {
+    requireNonNull(duration, "duration");
+
+    if (duration.isNegative()) {
+      throw new IllegalArgumentException("duration must not be negative: " + duration);
+    }
+
+    advanceLock.lock();
+    try {
+      return advanceToNanos(Math.addExact(epochNanos.get(), duration.toNanos()));
+    } finally {
+      advanceLock.unlock();
+    }
+  }
+
+  /**
+   * Advances the time to the given instant, running the tasks due in between.
+   *
+   * <p>If the given instant is not after the current time only the tasks already due are run.
+   *
+   * @param instant the instant, not null
+   * @return the number of tasks run
+   * @throws ArithmeticException if {@code instant} cannot be represented as epoch nanoseconds
+   * @since 1.1
+   */
+  public int advanceTo(Instant instant) {
+    requireNonNull(instant, "instant");
+
+    return advanceToNanos(PrimitiveClocks.toEpochNanos(instant));
+  }
+
+  /**
+   * Advances the time to the due time of the next scheduled task and runs the tasks due then.
+   *
+   * @return true if a task was due, false if no task is scheduled
+   * @since 1.1
+   */
+  public boolean advanceToNextEvent() {
+    advanceLock.lock();
+    try {
+      VirtualTask<?> next;
+      lock.lock();
+      try {
+        next = queue.peek();
+      } finally {
+        lock.unlock();
+      }
+      if (next == null) {
+        return false;
+      }
+      advanceToNanos(Math.max(next.time, epochNanos.get()));
+      return true;
+    } finally {
+      advanceLock.unlock();
+    }
+  }
+
+  private int advanceToNanos(long target) {
+    int run = 0;
+
+    advanceLock.lock();
+    try {
+      while (true) {
+        VirtualTask<?> task;
+        lock.lock();
+        try {
+          task = queue.peek();
+          if (task == null || task.time > target) {
+            break;
+          }
+          queue.poll();
+        } finally {
+          lock.unlock();
+        }
+        if (task.time > epochNanos.get()) {
+          epochNanos.set(task.time);
+        }
+        task.run();
+        run++;
+      }
+      if (target > epochNanos.get()) {
+        epochNanos.set(target);
+      }
+    } finally {
+      advanceLock.unlock();
+    }
+
+    return run;
+  }
+
+  private void enqueue(VirtualTask<?> task) {
+    lock.lock();
+    try {
+      queue.add(task);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void dequeue(VirtualTask<?> task) {
+    lock.lock();
+    try {
+      queue.remove(task);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "VirtualClockSupplier(" + clock.instant() + ", " + zone + ')';
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import org.apiguardian.api.API;
+
+/**
+ * Looks up the offset of a time-zone in constant time.
+ *
+ * <p>The offsets of the years in the given window are precomputed into primitive arrays: the
+ * transitions of the window and, for each day, the transition in effect at the start of the day.
+ * Outside of the window the zone's {@link ZoneRules} are consulted.
+ *
+ * <p>Typical usage with a clock supplier:
+ *
+ * <pre>
+ * ZoneOffsetCache cache = ZoneOffsetCache.of(clockSupplier.get().getZone(), 2000, 2050);
+ * </pre>
+ *
+ * <p>The years of the window are UTC years. The cache reflects the rules of the zone at the time of
+ * its creation.
+ *
+ * <p>This class is immutable and thread-safe.
+ *
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class ZoneOffsetCache {
+
+  private static final int MAX_YEARS = 1_000;
+
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  private final ZoneId zone;
+  private final ZoneRules rules;
+  private final int fromYear;
+  private final int toYear;
+  private final long firstEpochDay;
+
+  // transitionEpochSeconds[0] is Long.MIN_VALUE, i.e. offsetSeconds[0] is in effect at the start
+  private final long[] transitionEpochSeconds;
+  private final int[] offsetSeconds;
+  private final int[] transitionOfDay;
+
+  private ZoneOffsetCache(ZoneId zone, int fromYear, int toYear) {
+    this.zone = zone;
+    this.fromYear = fromYear;
+    this.toYear = toYear;
+
+    rules = zone.getRules();
+
+    firstEpochDay = LocalDate.of(fromYear, 1, 1).toEpochDay();
+    long endEpochDay = LocalDate.of(toYear, 12, 31).toEpochDay() + 1L;
+
+    long start = firstEpochDay * SECONDS_PER_DAY;
+    long end = endEpochDay * SECONDS_PER_DAY;
+
+    List<ZoneOffsetTransition> transitions = new ArrayList<>();
+    if (!rules.isFixedOffset()) {
+      ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(start));
+      while (transition != null && transition.toEpochSecond() < end) {
+        transitions.add(transition);
+        transition = rules.nextTransition(transition.getInstant());
+      }
+    }
+
+    transitionEpochSeconds = new long[transitions.size() + 1];
+    offsetSeconds = new int[transitions.size() + 1];
+
+    transitionEpochSeconds[0] = Long.MIN_VALUE;
+    offsetSeconds[0] = rules.getOffset(Instant.ofEpochSecond(start)).getTotalSeconds();
+    for (int i = 0; i < transitions.size(); i++) {
+      ZoneOffsetTransition transition = transitions.get(i);
+      transitionEpochSeconds[i + 1] = transition.toEpochSecond();
+      offsetSeconds[i + 1] = transition.getOffsetAfter().getTotalSeconds();
+    }
+
+    transitionOfDay = new int[(int) (endEpochDay - firstEpochDay)];
+    int index = 0;
+    for (int day = 0; day < transitionOfDay.length; day++) {
+      long dayStart = start + (long) day * SECONDS_PER_DAY;
+      while (index + 1 < transitionEpochSeconds.length
+          && transitionEpochSeconds[index + 1] <= dayStart) {
+        index++;
+      }
+      transitionOfDay[day] = index;
+    }
+  }
+
+  /**
+   * Creates an offset cache for the given zone.
+   *
+   * @param zone the zone, not null
+   * @param fromYear the first year of the window
+   * @param toYear the last year of the window, inclusive
+   * @return a new offset cache
+   * @throws IllegalArgumentException if {@code fromYear} is after {@code toYear}, the window is
+   *     larger than 1000 years, or a year is out of range
+   * @since 1.1
+   */
+  public static ZoneOffsetCache of(ZoneId zone, int fromYear, int toYear) {
+    requireNonNull(zone, "zone");
+
+    if (fromYear > toYear) {
+      throw new IllegalArgumentException(
+          "fromYear must not be after toYear: " + fromYear + " > " + toYear);
+    }
+    if ((long) toYear - fromYear >= MAX_YEARS) {
+      throw new IllegalArgumentException(
+          "window must not be larger than " + MAX_YEARS + " years: " + fromYear + ".." + toYear);
+    }
+    if (fromYear < -999_999_999 || toYear > 999_999_998) {
+      throw new IllegalArgumentException("year out of range: " + fromYear + ".." + toYear);
+    }
+
+    return new ZoneOffsetCache(zone, fromYear, toYear);
+  }
+
+  /**
+   * Returns the zone of this cache.
+   *
+   * @return the zone; never null
+   * @since 1.1
+   */
+  public ZoneId zone() {
+    return zone;
+  }
+
+  /**
+   * Returns the offset in effect at the given instant.
+   *
+   * <p>This method does not allocate if the instant is within the window.
+   *
+   * @param epochSecond the instant in epoch seconds
+   * @return the total offset in seconds
+   * @since 1.1
+   */
+  public int offsetSeconds(long epochSecond) {
+    long day = Math.floorDiv(epochSecond, SECONDS_PER_DAY) - firstEpochDay;
+    if (day < 0L || day >= transitionOfDay.length) {
+      return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    int index = transitionOfDay[(int) day];
+    while (index + 1 < transitionEpochSeconds.length
+        && epochSecond >= transitionEpochSeconds[index + 1]) {
+      index++;
+    }
+
+    return offsetSeconds[index];
+  }
+
+  /**
+   * Returns the offset in effect at the given instant.
+   *
+   * <p>This method does not allocate if the instant is within the window.
+   *
+   * @param epochMillis the instant in epoch milliseconds
+   * @return the total offset in seconds
+   * @since 1.1
+   */
+  public int offsetSecondsOfEpochMilli(long epochMillis) {
+    return offsetSeconds(Math.floorDiv(epochMillis, 1_000L));
+  }
+
+  /**
+   * Returns the offset in effect at the given instant.
+   *
+   * @param epochSecond the instant in epoch seconds
+   * @return the offset; never null
+   * @since 1.1
+   */
+  public ZoneOffset offset(long epochSecond) {
+    return ZoneOffset.ofTotalSeconds(offsetSeconds(epochSecond));
+  }
+
+  /**
+   * Converts the given instant into the local epoch seconds of the zone, i.e. the seconds since
+   * 1970-01-01T00:00 local time.
+   *
+   * @param epochSecond the instant in epoch seconds
+   * @return the local epoch seconds
+   * @since 1.1
+   */
+  public long toLocalEpochSecond(long epochSecond) {
+    return epochSecond + offsetSeconds(epochSecond);
+  }
+
+  @Override
+  public String toString() {
+    return "ZoneOffsetCache(" + zone + ", " + fromYear + ".." + toYear + ')';
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_ZONE;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// a fixed clock at FIXED_INSTANT in FIXED_ZONE which can be moved forward and backward
+final class AdjustableClockSupplier implements Supplier<Clock> {
+
+  private final AtomicReference<Instant> instant = new AtomicReference<>(FIXED_INSTANT);
+
+  void advance(long millis) {
+    instant.updateAndGet(current -> current.plusMillis(millis));
+  }
+
+  @Override
+  public Clock get() {
+    return Clock.fixed(instant.get(), FIXED_ZONE);
+  }
+}
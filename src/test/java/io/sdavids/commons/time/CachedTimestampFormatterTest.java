@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_ZONE;
+import static java.util.Locale.ROOT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class CachedTimestampFormatterTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void rfc1123_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("clockSupplier");
+
+    CachedTimestampFormatter.rfc1123(null);
+  }
+
+  @Test
+  public void rfc1123_() {
+    CachedTimestampFormatter formatter =
+        CachedTimestampFormatter.rfc1123(
+            fixedUtcClockSupplier(Instant.parse("2017-08-06T05:04:03.999Z")));
+
+    assertThat(formatter.get()).isEqualTo("Sun, 06 Aug 2017 05:04:03 GMT");
+  }
+
+  @Test
+  public void isoInstant_() {
+    CachedTimestampFormatter formatter =
+        CachedTimestampFormatter.isoInstant(
+            fixedUtcClockSupplier(Instant.parse("2017-08-06T05:04:03.999Z")));
+
+    assertThat(formatter.get()).isEqualTo("2017-08-06T05:04:03Z");
+  }
+
+  @Test
+  public void isoInstant_before_epoch() {
+    CachedTimestampFormatter formatter =
+        CachedTimestampFormatter.isoInstant(
+            fixedUtcClockSupplier(Instant.parse("1969-12-31T23:59:59.500Z")));
+
+    assertThat(formatter.get()).isEqualTo("1969-12-31T23:59:59Z");
+  }
+
+  @Test
+  public void get_cached_within_second() {
+    AtomicReference<Clock> current = new AtomicReference<>(Clock.fixed(FIXED_INSTANT, FIXED_ZONE));
+
+    CachedTimestampFormatter formatter = CachedTimestampFormatter.isoInstant(current::get);
+
+    String first = formatter.get();
+
+    current.set(Clock.offset(current.get(), Duration.ofMillis(999L)));
+
+    assertThat(formatter.get()).isSameAs(first);
+
+    current.set(Clock.offset(current.get(), Duration.ofMillis(1L)));
+
+    assertThat(formatter.get()).isNotEqualTo(first).isEqualTo("2017-10-02T17:03:01Z");
+  }
+
+  @Test
+  public void create_null_formatter() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("formatter");
+
+    CachedTimestampFormatter.create(fixedUtcClockSupplier(FIXED_INSTANT), null);
+  }
+
+  @Test
+  public void create_without_zone() {
+    CachedTimestampFormatter formatter =
+        CachedTimestampFormatter.create(
+            fixedUtcClockSupplier(Instant.parse("2017-08-06T05:04:03Z")),
+            DateTimeFormatter.ofPattern("HH:mm:ss", ROOT));
+
+    assertThat(formatter.get()).isEqualTo("05:04:03");
+  }
+
+  @Test
+  public void create_with_zone() {
+    CachedTimestampFormatter formatter =
+        CachedTimestampFormatter.create(
+            fixedUtcClockSupplier(Instant.parse("2017-08-06T05:04:03Z")),
+            DateTimeFormatter.ofPattern("HH:mm:ss", ROOT).withZone(ZoneId.of("Europe/Berlin")));
+
+    assertThat(formatter.get()).isEqualTo("07:04:03");
+  }
+}
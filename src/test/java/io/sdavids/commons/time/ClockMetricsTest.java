@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.test.MockServices.setServices;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_ZONE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class ClockMetricsTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private final AdjustableClockSupplier clockSupplier = new AdjustableClockSupplier();
+
+  @Before
+  public void setUp() {
+    setServices(TestableClockMetricsSink.class);
+  }
+
+  @Test
+  public void metered_null_name() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("name");
+
+    ClockSupplier.metered(clockSupplier, null);
+  }
+
+  @Test
+  public void metered_() {
+    Supplier<Clock> supplier = ClockSupplier.metered(clockSupplier, "metered_");
+
+    ClockMetrics metrics = TestableClockMetricsSink.registered("metered_");
+
+    assertThat(metrics.getName()).isEqualTo("metered_");
+    assertThat(supplier.toString()).endsWith(", metered_)");
+
+    Clock clock = supplier.get();
+
+    assertThat(clock.instant()).isEqualTo(FIXED_INSTANT);
+    assertThat(clock.getZone()).isEqualTo(FIXED_ZONE);
+    assertThat(supplier.get()).isSameAs(clock);
+
+    clockSupplier.advance(1_000L);
+
+    assertThat(supplier.get().millis()).isEqualTo(FIXED_INSTANT.toEpochMilli() + 1_000L);
+
+    clockSupplier.advance(-500L);
+
+    supplier.get().withZone(FIXED_ZONE).millis();
+    supplier.get().instant();
+
+    clockSupplier.advance(1_000L);
+
+    supplier.get().instant();
+
+    assertThat(metrics.getInvocations()).isEqualTo(6L);
+    assertThat(metrics.getRegressions()).isEqualTo(2L);
+    assertThat(metrics.getResolutions()).isZero();
+    assertThat(metrics.getResolutionNanos()).isZero();
+    assertThat(metrics)
+        .hasToString("ClockMetrics(metered_, invocations=6, regressions=2, resolutions=0)");
+  }
+
+  @Test
+  public void metered_regressions_per_thread() throws InterruptedException {
+    Supplier<Clock> supplier = ClockSupplier.metered(clockSupplier, "metered_regressions");
+
+    ClockMetrics metrics = TestableClockMetricsSink.registered("metered_regressions");
+
+    clockSupplier.advance(1_000L);
+
+    supplier.get().millis();
+
+    clockSupplier.advance(-500L);
+
+    Thread thread = new Thread(() -> supplier.get().millis());
+    thread.start();
+    thread.join();
+
+    assertThat(metrics.getRegressions()).isZero();
+
+    supplier.get().millis();
+
+    assertThat(metrics.getRegressions()).isEqualTo(1L);
+  }
+
+  @Test
+  public void unregisterMetrics_() throws JMException {
+    Supplier<Clock> supplier = ClockSupplier.metered(clockSupplier, "unregisterMetrics_");
+
+    ObjectName name =
+        new ObjectName(
+            ClockMetrics.OBJECT_NAME_PREFIX + ",name=" + ObjectName.quote("unregisterMetrics_"));
+
+    ClockMetrics metrics = TestableClockMetricsSink.registered("unregisterMetrics_");
+
+    assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isTrue();
+
+    assertThat(ClockSupplier.unregisterMetrics(supplier)).isTrue();
+
+    assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isFalse();
+    assertThat(TestableClockMetricsSink.registered()).doesNotContain(metrics);
+
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT);
+
+    Supplier<Clock> other = ClockSupplier.metered(clockSupplier, "unregisterMetrics_");
+
+    assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isTrue();
+
+    assertThat(ClockSupplier.unregisterMetrics(other)).isTrue();
+    assertThat(ClockSupplier.unregisterMetrics(other)).isTrue();
+
+    assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isFalse();
+  }
+
+  @Test
+  public void metered_name_in_use() {
+    Supplier<Clock> supplier = ClockSupplier.metered(clockSupplier, "metered_name_in_use");
+
+    try {
+      expectedException.expect(IllegalArgumentException.class);
+      expectedException.expectMessage("name already in use: metered_name_in_use");
+
+      ClockSupplier.metered(clockSupplier, "metered_name_in_use");
+    } finally {
+      ClockSupplier.unregisterMetrics(supplier);
+    }
+  }
+
+  @Test
+  public void unregisterMetrics_not_metered() {
+    assertThat(ClockSupplier.unregisterMetrics(clockSupplier)).isFalse();
+  }
+
+  @Test
+  public void metered_equal_clocks() {
+    Supplier<Clock> supplier =
+        ClockSupplier.metered(() -> Clock.fixed(FIXED_INSTANT, FIXED_ZONE), "metered_equal");
+
+    assertThat(supplier.get()).isSameAs(supplier.get());
+  }
+
+  @Test
+  public void metered_jmx() throws JMException {
+    Supplier<Clock> supplier = ClockSupplier.metered(clockSupplier, "metered_jmx");
+
+    supplier.get();
+    supplier.get();
+
+    ObjectName name =
+        new ObjectName(
+            ClockMetrics.OBJECT_NAME_PREFIX + ",name=" + ObjectName.quote("metered_jmx"));
+
+    assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Invocations"))
+        .isEqualTo(2L);
+  }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class ClockOffsetEstimatorTest {
+
+  private static final long START = FIXED_INSTANT.getEpochSecond() * 1_000_000_000L;
+
+  private static final long MILLI = 1_000_000L;
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private final VirtualClockSupplier supplier = VirtualClockSupplier.create(FIXED_INSTANT);
+
+  // offset of the reference and round trip of the next queries, in nanoseconds
+  private final Deque<long[]> queries = new ArrayDeque<>();
+
+  private long offset = 10L * MILLI;
+
+  private final ReferenceTimeSource reference =
+      () -> {
+        long[] query = queries.poll();
+        long queryOffset = query == null ? offset : query[0];
+        long roundTrip = query == null ? 0L : query[1];
+
+        supplier.advance(Duration.ofNanos(roundTrip / 2L));
+        long epochNanos = PrimitiveClock.of(supplier).epochNanos() + queryOffset;
+        supplier.advance(Duration.ofNanos(roundTrip - roundTrip / 2L));
+
+        return epochNanos;
+      };
+
+  private final ClockOffsetEstimator estimator =
+      ClockOffsetEstimator.create(supplier, reference, 4, 0.5d, 1_000L);
+
+  @Test
+  public void create_null_localSupplier() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("localSupplier");
+
+    ClockOffsetEstimator.create(null, reference, 1, 1.0d, 1L);
+  }
+
+  @Test
+  public void create_null_reference() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("reference");
+
+    ClockOffsetEstimator.create(supplier, null);
+  }
+
+  @Test
+  public void create_zero_samplesPerRound() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("samplesPerRound must be positive: 0");
+
+    ClockOffsetEstimator.create(supplier, reference, 0, 1.0d, 1L);
+  }
+
+  @Test
+  public void create_invalid_smoothing() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("smoothing must be in (0, 1]: NaN");
+
+    ClockOffsetEstimator.create(supplier, reference, 1, Double.NaN, 1L);
+  }
+
+  @Test
+  public void create_zero_slewPpm() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("slewPpm must be in [1, 999999]: 0");
+
+    ClockOffsetEstimator.create(supplier, reference, 1, 1.0d, 0L);
+  }
+
+  @Test
+  public void create_slewPpm_too_large() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("slewPpm must be in [1, 999999]: 1000000");
+
+    ClockOffsetEstimator.create(supplier, reference, 1, 1.0d, 1_000_000L);
+  }
+
+  @Test
+  public void not_sampled() {
+    assertThat(estimator.offsetNanos()).isZero();
+    assertThat(estimator.roundTripNanos()).isZero();
+    assertThat(estimator.appliedOffsetNanos()).isZero();
+  }
+
+  @Test
+  public void clockSupplier_not_sampled() {
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("not sampled yet");
+
+    estimator.clockSupplier();
+  }
+
+  @Test
+  public void create_defaults() throws IOException {
+    ClockOffsetEstimator defaults = ClockOffsetEstimator.create(supplier, reference);
+
+    assertThat(defaults.sample()).isEqualTo(10L * MILLI);
+  }
+
+  @Test
+  public void sample_first_applied_at_once() throws IOException {
+    assertThat(estimator.sample()).isEqualTo(10L * MILLI);
+
+    assertThat(estimator.offsetNanos()).isEqualTo(10L * MILLI);
+    assertThat(estimator.appliedOffsetNanos()).isEqualTo(10L * MILLI);
+    assertThat(estimator.clockSupplier().get().millis())
+        .isEqualTo(PrimitiveClock.of(supplier).epochMillis() + 10L);
+  }
+
+  @Test
+  public void sample_uses_shortest_round_trip() throws IOException {
+    queries.add(new long[] {30L * MILLI, 8L * MILLI});
+    queries.add(new long[] {12L * MILLI, 2L * MILLI});
+    queries.add(new long[] {-20L * MILLI, 6L * MILLI});
+    queries.add(new long[] {40L * MILLI, 4L * MILLI});
+
+    assertThat(estimator.sample()).isEqualTo(12L * MILLI);
+    assertThat(estimator.roundTripNanos()).isEqualTo(2L * MILLI);
+  }
+
+  @Test
+  public void sample_smoothed() throws IOException {
+    estimator.sample();
+
+    offset = 20L * MILLI;
+
+    assertThat(estimator.sample()).isEqualTo(15L * MILLI);
+
+    assertThat(estimator.sample()).isEqualTo(17_500_000L);
+  }
+
+  @Test
+  public void sample_slewed() throws IOException {
+    estimator.sample();
+
+    offset = 30L * MILLI;
+    long before = PrimitiveClock.of(estimator.clockSupplier()).epochNanos();
+
+    estimator.sample();
+
+    assertThat(estimator.offsetNanos()).isEqualTo(20L * MILLI);
+    assertThat(PrimitiveClock.of(estimator.clockSupplier()).epochNanos()).isEqualTo(before);
+
+    // 1000ppm of 1s
+    supplier.advance(Duration.ofSeconds(1L));
+
+    assertThat(estimator.appliedOffsetNanos()).isEqualTo(11L * MILLI);
+    assertThat(PrimitiveClock.of(estimator.clockSupplier()).epochNanos())
+        .isEqualTo(before + 1_001L * MILLI);
+
+    supplier.advance(Duration.ofSeconds(9L));
+
+    assertThat(estimator.appliedOffsetNanos()).isEqualTo(20L * MILLI);
+
+    supplier.advance(Duration.ofSeconds(1L));
+
+    assertThat(estimator.appliedOffsetNanos()).isEqualTo(20L * MILLI);
+  }
+
+  @Test
+  public void sample_slewed_backward_monotonic() throws IOException {
+    estimator.sample();
+
+    offset = -90L * MILLI;
+    estimator.sample();
+
+    assertThat(estimator.offsetNanos()).isEqualTo(-40L * MILLI);
+
+    Clock clock = estimator.clockSupplier().get();
+    long previous = clock.millis();
+    for (int i = 0; i < 100; i++) {
+      supplier.advance(Duration.ofSeconds(1L));
+
+      long current = clock.millis();
+
+      assertThat(current).isGreaterThan(previous);
+
+      previous = current;
+    }
+
+    assertThat(estimator.appliedOffsetNanos()).isEqualTo(-40L * MILLI);
+  }
+
+  @Test
+  public void sample_slew_restarts_from_applied_offset() throws IOException {
+    estimator.sample();
+
+    offset = 30L * MILLI;
+    estimator.sample();
+
+    supplier.advance(Duration.ofSeconds(5L));
+
+    assertThat(estimator.appliedOffsetNanos()).isEqualTo(15L * MILLI);
+
+    offset = 0L;
+    estimator.sample();
+
+    assertThat(estimator.offsetNanos()).isEqualTo(10L * MILLI);
+    assertThat(estimator.appliedOffsetNanos()).isEqualTo(15L * MILLI);
+
+    supplier.advance(Duration.ofSeconds(5L));
+
+    assertThat(estimator.appliedOffsetNanos()).isEqualTo(10L * MILLI);
+  }
+
+  @Test
+  public void sample_ioException() throws IOException {
+    ClockOffsetEstimator failing =
+        ClockOffsetEstimator.create(
+            supplier,
+            () -> {
+              throw new IOException("unreachable");
+            },
+            1,
+            1.0d,
+            1L);
+
+    expectedException.expect(IOException.class);
+    expectedException.expectMessage("unreachable");
+
+    failing.sample();
+  }
+
+  @Test
+  public void clockSupplier_() throws IOException {
+    estimator.sample();
+
+    Clock clock = estimator.clockSupplier().get();
+
+    assertThat(clock).isSameAs(estimator.clockSupplier().get());
+    assertThat(clock).isInstanceOf(PrimitiveClock.class);
+    assertThat(clock.getZone()).isEqualTo(supplier.get().getZone());
+    assertThat(clock.withZone(clock.getZone())).isSameAs(clock);
+    assertThat(clock.toString()).isEqualTo("CorrectedClock[" + clock.getZone() + ']');
+  }
+
+  @Test
+  public void referenceTimeSource_of() throws IOException {
+    assertThat(ReferenceTimeSource.of(supplier).epochNanos()).isEqualTo(START);
+  }
+
+  @Test
+  public void referenceTimeSource_of_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("supplier");
+
+    ReferenceTimeSource.of(null);
+  }
+}
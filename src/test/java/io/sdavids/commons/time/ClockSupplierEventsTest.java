@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ClockSupplierEventsTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void events_() throws IOException {
+    assumeTrue(ClockSupplierEvents.AVAILABLE);
+
+    Path file = temporaryFolder.newFile("clock-supplier.jfr").toPath();
+
+    try (Recording recording = new Recording()) {
+      recording.enable(JfrClockSupplierEvents.ResolutionEvent.class);
+      recording.enable(JfrClockSupplierEvents.StatisticsEvent.class).with("period", "endChunk");
+      recording.start();
+
+      // tests are run with caching turned off
+      Supplier<Clock> supplier = ClockSupplier.getDefault();
+
+      supplier.get();
+      supplier.get();
+
+      ClockSupplier.reloadDefault();
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+    List<RecordedEvent> resolutions =
+        events
+            .stream()
+            .filter(e -> e.getEventType().getName().endsWith("ClockSupplierResolution"))
+            .collect(Collectors.toList());
+
+    assertThat(resolutions).hasSize(3);
+    assertThat(resolutions.get(0).getString("provider"))
+        .isEqualTo("io.sdavids.commons.time.ClockSupplier$NonCachingUuidSupplier");
+    assertThat(resolutions.get(1).getString("provider"))
+        .isEqualTo("io.sdavids.commons.time.ClockSupplier$SystemUtcClockSupplier");
+    assertThat(resolutions.get(1).getBoolean("cached")).isFalse();
+    assertThat(resolutions.get(1).getLong("scanDuration")).isPositive();
+
+    assertThat(
+            events
+                .stream()
+                .filter(e -> e.getEventType().getName().endsWith("ClockSupplierStatistics"))
+                .mapToLong(e -> e.getLong("nonCachingGets"))
+                .max())
+        .hasValue(2L);
+  }
+}
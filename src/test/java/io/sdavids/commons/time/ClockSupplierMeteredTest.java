@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.METRICS_PROPERTY_KEY;
+import static io.sdavids.commons.time.ClockSupplier.SWAPPABLE_PROPERTY_KEY;
+import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public final class ClockSupplierMeteredTest {
+
+  @BeforeClass
+  public static void setUpClass() {
+    // the properties are evaluated once; test classes are run in separate JVMs
+    System.setProperty(METRICS_PROPERTY_KEY, "true");
+    System.setProperty(SWAPPABLE_PROPERTY_KEY, "true");
+  }
+
+  @Test
+  public void getDefault_() throws JMException {
+    Supplier<Clock> supplier = ClockSupplier.getDefault();
+
+    assertThat(supplier.toString())
+        .startsWith("ClockSupplier.metered(SwappableSupplier(NonCachingUuidSupplier(")
+        .endsWith(", default)");
+
+    // tests are run with caching turned off
+    assertThat(supplier.get()).isNotNull();
+    assertThat(supplier.get()).isNotNull();
+
+    ClockSupplier.reloadDefault();
+
+    Supplier<Clock> previous = ClockSupplier.install(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT);
+
+    ClockSupplier.install(previous);
+
+    ObjectName name =
+        new ObjectName(ClockMetrics.OBJECT_NAME_PREFIX + ",name=" + ObjectName.quote("default"));
+
+    assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Invocations"))
+        .isEqualTo(3L);
+    assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Resolutions"))
+        .isEqualTo(2L);
+    assertThat(
+            (Long) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "ResolutionNanos"))
+        .isPositive();
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.SWAPPABLE_PROPERTY_KEY;
+import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.ClockSupplier.scaledClockSupplier;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class ClockSupplierSwappableTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @BeforeClass
+  public static void setUpClass() {
+    // the property is evaluated once; test classes are run in separate JVMs
+    System.setProperty(SWAPPABLE_PROPERTY_KEY, "true");
+
+    // registers the MBean
+    assertThat(ClockSupplier.getDefault().toString()).startsWith("SwappableSupplier(");
+  }
+
+  @After
+  public void tearDown() throws JMException {
+    ManagementFactory.getPlatformMBeanServer()
+        .invoke(new ObjectName(DefaultClockSupplierMBean.OBJECT_NAME), "restore", null, null);
+  }
+
+  @Test
+  public void install_() {
+    Supplier<Clock> supplier = ClockSupplier.getDefault();
+
+    Supplier<Clock> initial = ClockSupplier.install(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    assertThat(ClockSupplier.getDefault()).isSameAs(supplier);
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT);
+    assertThat(supplier.toString())
+        .isEqualTo(
+            "SwappableSupplier(ClockSupplier.fixedClockSupplier(2017-10-02T17:03:00Z, Etc/UTC))");
+
+    VirtualClockSupplier virtual = VirtualClockSupplier.create(FIXED_INSTANT);
+
+    ClockSupplier.install(virtual);
+
+    virtual.advance(Duration.ofSeconds(1L));
+
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT.plusSeconds(1L));
+    assertThat(PrimitiveClock.of(supplier).epochMillis())
+        .isEqualTo(FIXED_INSTANT.toEpochMilli() + 1_000L);
+
+    ClockSupplier.install(initial);
+
+    assertThat(supplier.get().instant()).isNotEqualTo(FIXED_INSTANT.plusSeconds(1L));
+  }
+
+  @Test
+  public void install_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("supplier");
+
+    ClockSupplier.install(null);
+  }
+
+  @Test
+  public void install_default() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("supplier must not be the default instance");
+
+    ClockSupplier.install(ClockSupplier.getDefault());
+  }
+
+  @Test
+  public void install_scaled_default() {
+    Supplier<Clock> supplier = ClockSupplier.getDefault();
+
+    VirtualClockSupplier virtual = VirtualClockSupplier.create(FIXED_INSTANT);
+
+    ClockSupplier.install(virtual);
+    ClockSupplier.install(scaledClockSupplier(supplier, 24.0d, FIXED_INSTANT));
+
+    virtual.advance(Duration.ofHours(1L));
+
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT.plus(Duration.ofDays(1L)));
+  }
+
+  @Test
+  public void installWrapper_() {
+    Supplier<Clock> supplier = ClockSupplier.getDefault();
+
+    VirtualClockSupplier virtual = VirtualClockSupplier.create(FIXED_INSTANT);
+
+    ClockSupplier.install(virtual);
+
+    Supplier<Clock> previous =
+        ClockSupplier.installWrapper(
+            current -> {
+              assertThat(current).isSameAs(virtual);
+
+              return () -> Clock.offset(current.get(), Duration.ofSeconds(1L));
+            });
+
+    assertThat(previous).isSameAs(virtual);
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT.plusSeconds(1L));
+
+    virtual.advance(Duration.ofSeconds(1L));
+
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT.plusSeconds(2L));
+  }
+
+  @Test
+  public void installWrapper_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("wrapper");
+
+    ClockSupplier.installWrapper(null);
+  }
+
+  @Test
+  public void installWrapper_default() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("supplier must not be the default instance");
+
+    ClockSupplier.installWrapper(previous -> ClockSupplier.getDefault());
+  }
+
+  @Test
+  public void mbean_() throws JMException {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(DefaultClockSupplierMBean.OBJECT_NAME);
+
+    Supplier<Clock> supplier = ClockSupplier.getDefault();
+
+    server.invoke(
+        name,
+        "installFixed",
+        new Object[] {"2017-10-02T17:03:00Z"},
+        new String[] {String.class.getName()});
+
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT);
+    assertThat(server.getAttribute(name, "Supplier"))
+        .isEqualTo("ClockSupplier.fixedClockSupplier(2017-10-02T17:03:00Z, Etc/UTC)");
+
+    server.invoke(
+        name, "installOffset", new Object[] {-86_400_000L}, new String[] {long.class.getName()});
+
+    // based on the installed supplier
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT.minus(Duration.ofDays(1L)));
+    assertThat(server.getAttribute(name, "Supplier"))
+        .isEqualTo(
+            "DefaultClockSupplierMBean.installOffset("
+                + "ClockSupplier.fixedClockSupplier(2017-10-02T17:03:00Z, Etc/UTC), -86400000)");
+
+    server.invoke(
+        name, "installScaled", new Object[] {2.0d}, new String[] {double.class.getName()});
+
+    assertThat(server.getAttribute(name, "Supplier").toString())
+        .startsWith("ClockSupplier.scaledClockSupplier(DefaultClockSupplierMBean.installOffset(");
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT.minus(Duration.ofDays(1L)));
+
+    server.invoke(name, "restore", null, null);
+
+    assertThat(server.getAttribute(name, "Supplier").toString())
+        .startsWith("NonCachingUuidSupplier(");
+
+    server.invoke(
+        name, "installOffset", new Object[] {-86_400_000L}, new String[] {long.class.getName()});
+
+    assertThat(supplier.get().instant()).isBefore(Instant.now().minus(Duration.ofHours(23L)));
+    assertThat(server.getAttribute(name, "Supplier").toString())
+        .startsWith("DefaultClockSupplierMBean.installOffset(NonCachingUuidSupplier(");
+
+    server.invoke(name, "restore", null, null);
+
+    server.invoke(
+        name, "installScaled", new Object[] {2.0d}, new String[] {double.class.getName()});
+
+    assertThat(server.getAttribute(name, "Supplier").toString())
+        .startsWith("ClockSupplier.scaledClockSupplier(NonCachingUuidSupplier(");
+    assertThat(supplier.get().instant()).isAfter(Instant.now().minus(Duration.ofHours(1L)));
+  }
+}
@@ -16,8 +16,11 @@
 package io.sdavids.commons.time;
 
 import static io.sdavids.commons.test.junit4.DefaultTimeZoneRule.forTimeZone;
+import static io.sdavids.commons.time.ClockSupplier.coarseUtcClockSupplier;
 import static io.sdavids.commons.time.ClockSupplier.fixedClockSupplier;
 import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.ClockSupplier.monotonicUtcClockSupplier;
+import static io.sdavids.commons.time.ClockSupplier.scaledClockSupplier;
 import static io.sdavids.commons.time.ClockSupplier.systemDefaultZoneClockSupplier;
 import static io.sdavids.commons.time.ClockSupplier.systemUtcClockSupplier;
 import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
@@ -41,8 +44,10 @@
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -315,4 +320,141 @@ public void getDefault_default_impl() {
   public void getDefault_get() {
     assertThat(ClockSupplier.getDefault().get()).isNotNull();
   }
+
+  @Test
+  public void coarseUtcClockSupplier_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("resolution");
+
+    coarseUtcClockSupplier(null);
+  }
+
+  @Test
+  public void coarseUtcClockSupplier_sub_millisecond() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("resolution");
+
+    coarseUtcClockSupplier(Duration.ofNanos(999_999L));
+  }
+
+  @Test
+  public void coarseUtcClockSupplier_() throws InterruptedException {
+    Supplier<Clock> supplier = coarseUtcClockSupplier(Duration.ofMillis(1L));
+
+    assertThat(supplier.toString()).isEqualTo("ClockSupplier.coarseUtcClockSupplier(PT0.001S)");
+
+    Clock clock = supplier.get();
+
+    assertThat(supplier.get()).isSameAs(clock);
+    assertThat(clock.getZone()).isEqualTo(ZoneOffset.UTC);
+
+    long before = System.currentTimeMillis();
+    long first = clock.millis();
+
+    assertThat(first).isBetween(before - 1_000L, System.currentTimeMillis());
+
+    MILLISECONDS.sleep(50L);
+
+    assertThat(clock.millis()).isGreaterThan(first);
+    assertThat(clock.instant()).isAfter(Instant.ofEpochMilli(first));
+  }
+
+  @Test
+  public void monotonicUtcClockSupplier_() {
+    Supplier<Clock> supplier = monotonicUtcClockSupplier();
+
+    assertThat(supplier.toString()).isEqualTo("ClockSupplier.monotonicUtcClockSupplier()");
+
+    Clock clock = supplier.get();
+
+    assertThat(supplier.get()).isSameAs(clock);
+    assertThat(clock.getZone()).isEqualTo(ZoneOffset.UTC);
+
+    long before = System.currentTimeMillis();
+
+    assertThat(clock.millis()).isBetween(before - 1_000L, System.currentTimeMillis() + 1_000L);
+
+    Instant previous = clock.instant();
+    for (int i = 0; i < 100_000; i++) {
+      Instant current = clock.instant();
+
+      assertThat(current).isAfterOrEqualTo(previous);
+
+      previous = current;
+    }
+  }
+
+  @Test
+  public void scaledClockSupplier_null_base() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("base");
+
+    scaledClockSupplier(null, 2.0d, FIXED_INSTANT);
+  }
+
+  @Test
+  public void scaledClockSupplier_rate_zero() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("rate must be positive and finite");
+
+    scaledClockSupplier(systemUtcClockSupplier(), 0.0d, FIXED_INSTANT);
+  }
+
+  @Test
+  public void scaledClockSupplier_rate_nan() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("rate must be positive and finite");
+
+    scaledClockSupplier(systemUtcClockSupplier(), Double.NaN, FIXED_INSTANT);
+  }
+
+  @Test
+  public void scaledClockSupplier_() {
+    VirtualClockSupplier base =
+        VirtualClockSupplier.create(Instant.parse("2000-01-01T00:00:00Z"), FIXED_ZONE);
+
+    Supplier<Clock> supplier = scaledClockSupplier(base, 24.0d, FIXED_INSTANT);
+
+    assertThat(supplier.toString())
+        .isEqualTo(
+            "ClockSupplier.scaledClockSupplier(VirtualClockSupplier(2000-01-01T00:00:00Z, "
+                + FIXED_ZONE
+                + "), 24.0, 2017-10-02T17:03:00Z)");
+
+    Clock clock = supplier.get();
+
+    assertThat(supplier.get()).isSameAs(clock);
+    assertThat(clock.getZone()).isEqualTo(FIXED_ZONE);
+    assertThat(clock.instant()).isEqualTo(FIXED_INSTANT);
+
+    base.advance(Duration.ofHours(1L));
+
+    assertThat(clock.instant()).isEqualTo(FIXED_INSTANT.plus(Duration.ofDays(1L)));
+    assertThat(clock.millis()).isEqualTo(FIXED_INSTANT.plus(Duration.ofDays(1L)).toEpochMilli());
+
+    PrimitiveClock primitiveClock = PrimitiveClock.of(supplier);
+
+    assertThat(primitiveClock).isSameAs(clock);
+    assertThat(primitiveClock.monotonicNanos()).isEqualTo(Duration.ofDays(1L).toNanos());
+  }
+
+  @Test
+  public void scaledClockSupplier_slower() {
+    VirtualClockSupplier base = VirtualClockSupplier.create(FIXED_INSTANT);
+
+    Clock clock = scaledClockSupplier(base, 0.5d, FIXED_INSTANT).get();
+
+    base.advance(Duration.ofSeconds(3L));
+
+    assertThat(clock.instant()).isEqualTo(FIXED_INSTANT.plusMillis(1_500L));
+    assertThat(clock.withZone(FIXED_ZONE).instant()).isEqualTo(clock.instant());
+  }
+
+  @Test
+  public void install_not_swappable() {
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("default clock supplier not swappable");
+
+    ClockSupplier.install(fixedUtcClockSupplier(FIXED_INSTANT));
+  }
 }
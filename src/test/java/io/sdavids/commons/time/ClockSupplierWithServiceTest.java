@@ -76,4 +76,27 @@ public void getDefault_get() {
     assertThat(clock.instant()).isEqualTo(FIXED_INSTANT);
     assertThat(clock.getZone()).isEqualTo(FIXED_ZONE);
   }
+
+  @Test
+  public void getDefault_provider_resolved_once() {
+    Supplier<Clock> supplier = ClockSupplier.getDefault();
+
+    supplier.get();
+
+    int instances = TestableClockSupplier.instances();
+
+    supplier.get();
+    supplier.get();
+
+    assertThat(TestableClockSupplier.instances()).isEqualTo(instances);
+
+    ClockSupplier.reloadDefault();
+
+    assertThat(TestableClockSupplier.instances()).isEqualTo(instances + 1);
+
+    Clock clock = supplier.get();
+
+    assertThat(clock.instant()).isEqualTo(FIXED_INSTANT);
+    assertThat(TestableClockSupplier.instances()).isEqualTo(instances + 1);
+  }
 }
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.EpochCalendar.DAY_OF_MONTH;
+import static io.sdavids.commons.time.EpochCalendar.FIELD_COUNT;
+import static io.sdavids.commons.time.EpochCalendar.HOUR;
+import static io.sdavids.commons.time.EpochCalendar.MILLI;
+import static io.sdavids.commons.time.EpochCalendar.MINUTE;
+import static io.sdavids.commons.time.EpochCalendar.MONTH;
+import static io.sdavids.commons.time.EpochCalendar.SECOND;
+import static io.sdavids.commons.time.EpochCalendar.YEAR;
+import static io.sdavids.commons.time.EpochCalendar.civilFromDays;
+import static io.sdavids.commons.time.EpochCalendar.date;
+import static io.sdavids.commons.time.EpochCalendar.dayOfMonth;
+import static io.sdavids.commons.time.EpochCalendar.daysFromCivil;
+import static io.sdavids.commons.time.EpochCalendar.epochDay;
+import static io.sdavids.commons.time.EpochCalendar.fields;
+import static io.sdavids.commons.time.EpochCalendar.hour;
+import static io.sdavids.commons.time.EpochCalendar.minute;
+import static io.sdavids.commons.time.EpochCalendar.month;
+import static io.sdavids.commons.time.EpochCalendar.packedDate;
+import static io.sdavids.commons.time.EpochCalendar.packedDateTime;
+import static io.sdavids.commons.time.EpochCalendar.second;
+import static io.sdavids.commons.time.EpochCalendar.year;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class EpochCalendarTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void epochDay_() {
+    assertThat(epochDay(0L)).isZero();
+    assertThat(epochDay(-1L)).isEqualTo(-1L);
+    assertThat(epochDay(FIXED_INSTANT.toEpochMilli()))
+        .isEqualTo(LocalDate.of(2017, 10, 2).toEpochDay());
+  }
+
+  @Test
+  public void civilFromDays_() {
+    long date = civilFromDays(LocalDate.of(2017, 10, 2).toEpochDay());
+
+    assertThat(year(date)).isEqualTo(2017L);
+    assertThat(month(date)).isEqualTo(10);
+    assertThat(dayOfMonth(date)).isEqualTo(2);
+  }
+
+  @Test
+  public void civilFromDays_negative_year() {
+    long date = civilFromDays(LocalDate.of(-4, 2, 29).toEpochDay());
+
+    assertThat(year(date)).isEqualTo(-4L);
+    assertThat(month(date)).isEqualTo(2);
+    assertThat(dayOfMonth(date)).isEqualTo(29);
+  }
+
+  @Test
+  public void civilFromDays_random() {
+    Random random = new Random(42L);
+
+    long min = LocalDate.MIN.toEpochDay();
+    long max = LocalDate.MAX.toEpochDay();
+
+    for (int i = 0; i < 100_000; i++) {
+      long epochDay = min + (long) (random.nextDouble() * (max - min));
+
+      LocalDate expected = LocalDate.ofEpochDay(epochDay);
+
+      long date = civilFromDays(epochDay);
+
+      assertThat(year(date)).isEqualTo(expected.getYear());
+      assertThat(month(date)).isEqualTo(expected.getMonthValue());
+      assertThat(dayOfMonth(date)).isEqualTo(expected.getDayOfMonth());
+      assertThat(daysFromCivil(year(date), month(date), dayOfMonth(date))).isEqualTo(epochDay);
+    }
+  }
+
+  @Test
+  public void daysFromCivil_() {
+    assertThat(daysFromCivil(1970, 1, 1)).isZero();
+    assertThat(daysFromCivil(1969, 12, 31)).isEqualTo(-1L);
+    assertThat(daysFromCivil(2000, 2, 29)).isEqualTo(LocalDate.of(2000, 2, 29).toEpochDay());
+    assertThat(daysFromCivil(2000, 3, 1)).isEqualTo(LocalDate.of(2000, 3, 1).toEpochDay());
+  }
+
+  @Test
+  public void packedDate_ordering() {
+    long[] days = {-800_000L, -1L, 0L, 1L, 31L, 59L, 365L, 17_441L, 2_932_896L};
+
+    for (int i = 1; i < days.length; i++) {
+      assertThat(civilFromDays(days[i])).isGreaterThan(civilFromDays(days[i - 1]));
+    }
+  }
+
+  @Test
+  public void packedDate_() {
+    assertThat(packedDate(FIXED_INSTANT.toEpochMilli()))
+        .isEqualTo(civilFromDays(LocalDate.of(2017, 10, 2).toEpochDay()));
+  }
+
+  @Test
+  public void packedDateTime_() {
+    long dateTime = packedDateTime(FIXED_INSTANT.toEpochMilli() + 45_678L);
+
+    assertThat(date(dateTime)).isEqualTo(packedDate(FIXED_INSTANT.toEpochMilli()));
+    assertThat(hour(dateTime)).isEqualTo(17);
+    assertThat(minute(dateTime)).isEqualTo(3);
+    assertThat(second(dateTime)).isEqualTo(45);
+    assertThat(packedDateTime(-1L)).isLessThan(packedDateTime(0L));
+    assertThat(packedDateTime(999L)).isEqualTo(packedDateTime(0L));
+    assertThat(packedDateTime(1_000L)).isGreaterThan(packedDateTime(999L));
+  }
+
+  @Test
+  public void fields_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("fields");
+
+    fields(0L, null, 0);
+  }
+
+  @Test
+  public void fields_too_small() {
+    expectedException.expect(IndexOutOfBoundsException.class);
+    expectedException.expectMessage("offset: 0");
+
+    fields(0L, new int[FIELD_COUNT - 1], 0);
+  }
+
+  @Test
+  public void fields_offset_negative() {
+    expectedException.expect(IndexOutOfBoundsException.class);
+    expectedException.expectMessage("offset: -1");
+
+    fields(0L, new int[FIELD_COUNT], -1);
+  }
+
+  @Test
+  public void fields_offset_too_large() {
+    expectedException.expect(IndexOutOfBoundsException.class);
+    expectedException.expectMessage("offset: 2");
+
+    fields(0L, new int[FIELD_COUNT + 1], 2);
+  }
+
+  @Test
+  public void fields_random() {
+    Random random = new Random(42L);
+
+    long min = LocalDateTime.of(-100_000, 1, 1, 0, 0).toInstant(UTC).toEpochMilli();
+    long max = LocalDateTime.of(100_000, 1, 1, 0, 0).toInstant(UTC).toEpochMilli();
+
+    int[] fields = new int[FIELD_COUNT];
+
+    for (int i = 0; i < 100_000; i++) {
+      long epochMillis = min + (long) (random.nextDouble() * (max - min));
+
+      fields(epochMillis, fields, 0);
+
+      LocalDateTime expected =
+          LocalDateTime.ofEpochSecond(
+              Math.floorDiv(epochMillis, 1_000L),
+              (int) Math.floorMod(epochMillis, 1_000L) * 1_000_000,
+              UTC);
+
+      assertThat(fields)
+          .containsExactly(
+              expected.getYear(),
+              expected.getMonthValue(),
+              expected.getDayOfMonth(),
+              expected.getHour(),
+              expected.getMinute(),
+              expected.getSecond(),
+              expected.getNano() / 1_000_000);
+    }
+  }
+
+  @Test
+  public void fields_indices() {
+    int[] fields = new int[FIELD_COUNT];
+
+    fields(FIXED_INSTANT.toEpochMilli() + 45_678L, fields, 0);
+
+    assertThat(fields[YEAR]).isEqualTo(2017);
+    assertThat(fields[MONTH]).isEqualTo(10);
+    assertThat(fields[DAY_OF_MONTH]).isEqualTo(2);
+    assertThat(fields[HOUR]).isEqualTo(17);
+    assertThat(fields[MINUTE]).isEqualTo(3);
+    assertThat(fields[SECOND]).isEqualTo(45);
+    assertThat(fields[MILLI]).isEqualTo(678);
+  }
+
+  @Test
+  public void fields_offset() {
+    int[] fields = new int[FIELD_COUNT + 2];
+
+    fields(FIXED_INSTANT.toEpochMilli() + 45_678L, fields, 1);
+
+    assertThat(fields).containsExactly(0, 2017, 10, 2, 17, 3, 45, 678, 0);
+  }
+}
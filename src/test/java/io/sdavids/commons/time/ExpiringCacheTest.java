@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class ExpiringCacheTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private final AdjustableClockSupplier clockSupplier = new AdjustableClockSupplier();
+
+  private final ExpiringCache<String, String> cache =
+      ExpiringCache.create(clockSupplier, Duration.ofMillis(10L));
+
+  @Test
+  public void create_null_clockSupplier() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("clockSupplier");
+
+    ExpiringCache.create(null);
+  }
+
+  @Test
+  public void create_default() {
+    ExpiringCache<String, String> defaultCache = ExpiringCache.create();
+
+    defaultCache.put("a", "1", Duration.ofHours(1L));
+
+    assertThat(defaultCache.get("a")).isEqualTo("1");
+  }
+
+  @Test
+  public void put_ttl_zero() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("ttl must be positive");
+
+    cache.put("a", "1", Duration.ZERO);
+  }
+
+  @Test
+  public void put_null_value() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("value");
+
+    cache.put("a", null, Duration.ofSeconds(1L));
+  }
+
+  @Test
+  public void get_expires() {
+    cache.put("a", "1", Duration.ofMillis(100L));
+
+    clockSupplier.advance(99L);
+
+    assertThat(cache.get("a")).isEqualTo("1");
+
+    clockSupplier.advance(1L);
+
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void put_huge_ttl() {
+    clockSupplier.advance(5L);
+
+    cache.put("a", "1", Duration.ofMillis(Long.MAX_VALUE));
+    cache.put("b", "2", Duration.ofSeconds(Long.MAX_VALUE));
+
+    clockSupplier.advance(1_000L);
+
+    cache.cleanUp();
+
+    assertThat(cache.get("a")).isEqualTo("1");
+    assertThat(cache.get("b")).isEqualTo("2");
+  }
+
+  @Test
+  public void get_absent() {
+    assertThat(cache.get("a")).isNull();
+  }
+
+  @Test
+  public void put_replaces() {
+    assertThat(cache.put("a", "1", Duration.ofMillis(100L))).isNull();
+
+    clockSupplier.advance(50L);
+
+    assertThat(cache.put("a", "2", Duration.ofMillis(100L))).isEqualTo("1");
+
+    clockSupplier.advance(60L);
+
+    cache.cleanUp();
+
+    assertThat(cache.get("a")).isEqualTo("2");
+
+    clockSupplier.advance(40L);
+
+    assertThat(cache.put("a", "3", Duration.ofMillis(100L))).isNull();
+  }
+
+  @Test
+  public void remove_() {
+    cache.put("a", "1", Duration.ofMillis(100L));
+
+    assertThat(cache.remove("a")).isEqualTo("1");
+    assertThat(cache.remove("a")).isNull();
+    assertThat(cache.get("a")).isNull();
+  }
+
+  @Test
+  public void expired_entries_removed_by_writes() {
+    for (int i = 0; i < 1_000; i++) {
+      cache.put("k" + i, "v" + i, Duration.ofMillis(100L + i));
+    }
+
+    assertThat(cache.size()).isEqualTo(1_000);
+
+    clockSupplier.advance(600L);
+
+    cache.put("b", "1", Duration.ofSeconds(1L));
+
+    // expired entries within the last tick may not have been removed yet
+    assertThat(cache.size()).isBetween(500, 510);
+
+    clockSupplier.advance(10L);
+
+    cache.cleanUp();
+
+    assertThat(cache.size()).isEqualTo(490);
+  }
+
+  @Test
+  public void toString_() {
+    cache.put("a", "1", Duration.ofMillis(100L));
+
+    assertThat(cache.toString()).startsWith("ExpiringCache(").endsWith(", 1)");
+  }
+}
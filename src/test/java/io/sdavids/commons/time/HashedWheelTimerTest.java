@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.systemUtcClockSupplier;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.sdavids.commons.time.HashedWheelTimer.Timeout;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class HashedWheelTimerTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private final AdjustableClockSupplier clockSupplier = new AdjustableClockSupplier();
+
+  private HashedWheelTimer timer() {
+    return HashedWheelTimer.create(clockSupplier, Duration.ofMillis(10L), 8);
+  }
+
+  @Test
+  public void create_null_clockSupplier() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("clockSupplier");
+
+    HashedWheelTimer.create(null, Duration.ofMillis(10L), 8);
+  }
+
+  @Test
+  public void create_tickDuration_too_small() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("tickDuration");
+
+    HashedWheelTimer.create(clockSupplier, Duration.ofNanos(999_999L), 8);
+  }
+
+  @Test
+  public void create_ticksPerWheel_zero() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("ticksPerWheel");
+
+    HashedWheelTimer.create(clockSupplier, Duration.ofMillis(10L), 0);
+  }
+
+  @Test
+  public void schedule_null_task() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("task");
+
+    timer().schedule(null, Duration.ZERO);
+  }
+
+  @Test
+  public void schedule_after_close() {
+    HashedWheelTimer timer = timer();
+    timer.close();
+
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("timer closed");
+
+    timer.schedule(() -> {}, Duration.ZERO);
+  }
+
+  @Test
+  public void schedule_huge_delay() {
+    HashedWheelTimer timer = timer();
+
+    clockSupplier.advance(5L);
+
+    Timeout millis = timer.schedule(() -> {}, Duration.ofMillis(Long.MAX_VALUE));
+    Timeout seconds = timer.schedule(() -> {}, Duration.ofSeconds(Long.MAX_VALUE));
+
+    clockSupplier.advance(1_000L);
+
+    assertThat(timer.advance()).isZero();
+    assertThat(millis.isExpired()).isFalse();
+    assertThat(seconds.isExpired()).isFalse();
+  }
+
+  @Test
+  public void advance_never_early() {
+    HashedWheelTimer timer = timer();
+
+    AtomicInteger runs = new AtomicInteger();
+
+    Timeout timeout = timer.schedule(runs::incrementAndGet, Duration.ofMillis(25L));
+
+    clockSupplier.advance(24L);
+
+    assertThat(timer.advance()).isZero();
+    assertThat(timeout.isExpired()).isFalse();
+
+    clockSupplier.advance(1L);
+
+    assertThat(timer.advance()).isZero();
+
+    clockSupplier.advance(5L);
+
+    assertThat(timer.advance()).isEqualTo(1);
+    assertThat(timeout.isExpired()).isTrue();
+    assertThat(runs).hasValue(1);
+
+    clockSupplier.advance(100L);
+
+    assertThat(timer.advance()).isZero();
+    assertThat(runs).hasValue(1);
+  }
+
+  @Test
+  public void advance_zero_delay() {
+    HashedWheelTimer timer = timer();
+
+    AtomicInteger runs = new AtomicInteger();
+
+    timer.schedule(runs::incrementAndGet, Duration.ZERO);
+    timer.schedule(runs::incrementAndGet, Duration.ofSeconds(-1L));
+
+    assertThat(timer.advance()).isEqualTo(2);
+    assertThat(runs).hasValue(2);
+  }
+
+  @Test
+  public void advance_multiple_revolutions() {
+    HashedWheelTimer timer = timer();
+
+    List<Integer> order = new ArrayList<>();
+
+    timer.schedule(() -> order.add(3), Duration.ofMillis(250L));
+    timer.schedule(() -> order.add(1), Duration.ofMillis(10L));
+    timer.schedule(() -> order.add(2), Duration.ofMillis(90L));
+
+    for (int i = 0; i < 30; i++) {
+      clockSupplier.advance(10L);
+      timer.advance();
+    }
+
+    assertThat(order).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void advance_clock_jump() {
+    HashedWheelTimer timer = timer();
+
+    AtomicInteger runs = new AtomicInteger();
+
+    timer.schedule(runs::incrementAndGet, Duration.ofMillis(50L));
+    timer.schedule(runs::incrementAndGet, Duration.ofMinutes(5L));
+    Timeout late = timer.schedule(runs::incrementAndGet, Duration.ofHours(2L));
+
+    clockSupplier.advance(Duration.ofHours(1L).toMillis());
+
+    assertThat(timer.advance()).isEqualTo(2);
+    assertThat(late.isExpired()).isFalse();
+
+    clockSupplier.advance(Duration.ofHours(1L).toMillis());
+
+    assertThat(timer.advance()).isEqualTo(1);
+    assertThat(late.isExpired()).isTrue();
+  }
+
+  @Test
+  public void advance_clock_goes_backward() {
+    HashedWheelTimer timer = timer();
+
+    Timeout timeout = timer.schedule(() -> {}, Duration.ofMillis(20L));
+
+    clockSupplier.advance(-1_000L);
+
+    assertThat(timer.advance()).isZero();
+
+    clockSupplier.advance(1_020L);
+
+    assertThat(timer.advance()).isEqualTo(1);
+    assertThat(timeout.isExpired()).isTrue();
+  }
+
+  @Test
+  public void cancel_() {
+    HashedWheelTimer timer = timer();
+
+    AtomicInteger runs = new AtomicInteger();
+
+    Timeout timeout = timer.schedule(runs::incrementAndGet, Duration.ofMillis(20L));
+
+    timer.advance();
+
+    assertThat(timeout.cancel()).isTrue();
+    assertThat(timeout.cancel()).isFalse();
+    assertThat(timeout.isCancelled()).isTrue();
+
+    clockSupplier.advance(100L);
+
+    assertThat(timer.advance()).isZero();
+    assertThat(runs).hasValue(0);
+    assertThat(timeout.isExpired()).isFalse();
+  }
+
+  @Test
+  public void cancel_before_advance() {
+    HashedWheelTimer timer = timer();
+
+    Timeout timeout = timer.schedule(() -> {}, Duration.ZERO);
+    timeout.cancel();
+
+    assertThat(timer.advance()).isZero();
+  }
+
+  @Test
+  public void cancel_expired() {
+    HashedWheelTimer timer = timer();
+
+    Timeout timeout = timer.schedule(() -> {}, Duration.ZERO);
+    timer.advance();
+
+    assertThat(timeout.cancel()).isFalse();
+    assertThat(timeout.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void cancel_many() {
+    HashedWheelTimer timer = timer();
+
+    AtomicInteger runs = new AtomicInteger();
+
+    List<Timeout> timeouts = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      timeouts.add(timer.schedule(runs::incrementAndGet, Duration.ofMillis(i % 1_000)));
+    }
+
+    assertThat(timer.advance()).isEqualTo(100);
+
+    for (int i = 0; i < timeouts.size(); i += 2) {
+      timeouts.get(i).cancel();
+    }
+
+    clockSupplier.advance(1_000L);
+
+    assertThat(timer.advance()).isEqualTo(50_000);
+    assertThat(runs).hasValue(50_100);
+  }
+
+  @Test
+  public void advance_task_throws() {
+    HashedWheelTimer timer = timer();
+
+    AtomicInteger runs = new AtomicInteger();
+
+    timer.schedule(
+        () -> {
+          throw new IllegalStateException("first");
+        },
+        Duration.ZERO);
+    timer.schedule(runs::incrementAndGet, Duration.ZERO);
+
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("first");
+
+    try {
+      timer.advance();
+    } finally {
+      assertThat(runs).hasValue(1);
+    }
+  }
+
+  @Test
+  public void close_cancels_pending() {
+    HashedWheelTimer timer = timer();
+
+    Timeout transferred = timer.schedule(() -> {}, Duration.ofMillis(100L));
+    timer.advance();
+    Timeout scheduled = timer.schedule(() -> {}, Duration.ofMillis(100L));
+
+    timer.close();
+
+    assertThat(transferred.isCancelled()).isTrue();
+    assertThat(scheduled.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void start_() throws InterruptedException {
+    try (HashedWheelTimer timer =
+        HashedWheelTimer.create(systemUtcClockSupplier(), Duration.ofMillis(5L), 64).start()) {
+
+      CountDownLatch latch = new CountDownLatch(1);
+
+      long before = System.nanoTime();
+
+      timer.schedule(latch::countDown, Duration.ofMillis(20L));
+
+      assertThat(latch.await(10L, SECONDS)).isTrue();
+      assertThat(System.nanoTime() - before).isGreaterThanOrEqualTo(19_000_000L);
+    }
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.HybridLogicalClock.encode;
+import static io.sdavids.commons.time.HybridLogicalClock.logical;
+import static io.sdavids.commons.time.HybridLogicalClock.physicalMillis;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_ZONE;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Stream.generate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class HybridLogicalClockTest {
+
+  private static final long FIXED_MILLIS = FIXED_INSTANT.toEpochMilli();
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void create_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("clockSupplier");
+
+    HybridLogicalClock.create(null);
+  }
+
+  @Test
+  public void getDefault_() {
+    HybridLogicalClock clock = HybridLogicalClock.getDefault();
+
+    assertThat(HybridLogicalClock.getDefault()).isSameAs(clock);
+
+    long before = System.currentTimeMillis();
+
+    assertThat(physicalMillis(clock.now())).isBetween(before, System.currentTimeMillis());
+  }
+
+  @Test
+  public void encode_() {
+    long timestamp = encode(FIXED_MILLIS, 42);
+
+    assertThat(physicalMillis(timestamp)).isEqualTo(FIXED_MILLIS);
+    assertThat(logical(timestamp)).isEqualTo(42);
+    assertThat(encode(FIXED_MILLIS, 65_535)).isLessThan(encode(FIXED_MILLIS + 1L, 0));
+  }
+
+  @Test
+  public void encode_physical_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("physicalMillis");
+
+    encode(-1L, 0);
+  }
+
+  @Test
+  public void encode_logical_overflow() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("logical");
+
+    encode(FIXED_MILLIS, 65_536);
+  }
+
+  @Test
+  public void now_fixed_clock() {
+    HybridLogicalClock clock = HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    assertThat(clock.now()).isEqualTo(encode(FIXED_MILLIS, 0));
+    assertThat(clock.now()).isEqualTo(encode(FIXED_MILLIS, 1));
+    assertThat(clock.now()).isEqualTo(encode(FIXED_MILLIS, 2));
+  }
+
+  @Test
+  public void now_clock_advances() {
+    AtomicReference<Clock> current = new AtomicReference<>(Clock.fixed(FIXED_INSTANT, FIXED_ZONE));
+
+    HybridLogicalClock clock = HybridLogicalClock.create(current::get);
+
+    clock.now();
+    clock.now();
+
+    current.set(Clock.offset(current.get(), Duration.ofMillis(5L)));
+
+    assertThat(clock.now()).isEqualTo(encode(FIXED_MILLIS + 5L, 0));
+  }
+
+  @Test
+  public void now_clock_goes_backward() {
+    AtomicReference<Clock> current = new AtomicReference<>(Clock.fixed(FIXED_INSTANT, FIXED_ZONE));
+
+    HybridLogicalClock clock = HybridLogicalClock.create(current::get);
+
+    clock.now();
+
+    current.set(Clock.offset(current.get(), Duration.ofSeconds(-5L)));
+
+    assertThat(clock.now()).isEqualTo(encode(FIXED_MILLIS, 1));
+  }
+
+  @Test
+  public void now_logical_overflow() {
+    HybridLogicalClock clock = HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    clock.update(encode(FIXED_MILLIS, 65_534));
+
+    assertThat(clock.now()).isEqualTo(encode(FIXED_MILLIS + 1L, 0));
+  }
+
+  @Test
+  public void update_remote_ahead() {
+    HybridLogicalClock clock = HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    clock.now();
+
+    assertThat(clock.update(encode(FIXED_MILLIS + 100L, 7)))
+        .isEqualTo(encode(FIXED_MILLIS + 100L, 8));
+    assertThat(clock.now()).isEqualTo(encode(FIXED_MILLIS + 100L, 9));
+  }
+
+  @Test
+  public void update_remote_behind() {
+    HybridLogicalClock clock = HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    clock.now();
+    clock.now();
+
+    assertThat(clock.update(encode(FIXED_MILLIS - 100L, 7))).isEqualTo(encode(FIXED_MILLIS, 2));
+  }
+
+  @Test
+  public void update_remote_equal_physical() {
+    HybridLogicalClock clock = HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    clock.now();
+
+    assertThat(clock.update(encode(FIXED_MILLIS, 5))).isEqualTo(encode(FIXED_MILLIS, 6));
+  }
+
+  @Test
+  public void update_negative() {
+    HybridLogicalClock clock = HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("remoteTimestamp");
+
+    clock.update(-1L);
+  }
+
+  @Test
+  public void update_greatest() {
+    HybridLogicalClock clock = HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    long greatest = encode(Long.MAX_VALUE >>> 16, 65_535);
+
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("remoteTimestamp out of range: " + greatest);
+
+    clock.update(greatest);
+  }
+
+  @Test
+  public void now_overflow() {
+    HybridLogicalClock clock = HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    assertThat(clock.update(Long.MAX_VALUE - 1L)).isEqualTo(Long.MAX_VALUE);
+
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("timestamp overflow");
+
+    clock.now();
+  }
+
+  @Test
+  public void simulated_remote_node() {
+    HybridLogicalClock local = HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT));
+    HybridLogicalClock remote =
+        HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT.plusSeconds(2L)));
+
+    long send = local.now();
+    long receive = remote.update(send);
+    long reply = remote.now();
+    long ack = local.update(reply);
+
+    assertThat(receive).isGreaterThan(send);
+    assertThat(reply).isGreaterThan(receive);
+    assertThat(ack).isGreaterThan(reply);
+    assertThat(physicalMillis(ack)).isEqualTo(FIXED_MILLIS + 2_000L);
+  }
+
+  @Test
+  public void now_concurrent() throws InterruptedException, ExecutionException {
+    HybridLogicalClock clock = HybridLogicalClock.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    ExecutorService service = newFixedThreadPool(5);
+
+    List<Future<Long>> result =
+        service.invokeAll(
+            generate(() -> (Callable<Long>) clock::now).limit(10_000L).collect(toList()));
+
+    service.shutdown();
+    service.awaitTermination(1L, MINUTES);
+
+    Set<Long> timestamps = new HashSet<>();
+    for (Future<Long> future : result) {
+      timestamps.add(future.get());
+    }
+
+    assertThat(timestamps).hasSize(10_000);
+    assertThat(clock.now()).isEqualTo(encode(FIXED_MILLIS, 10_000));
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.IntervalClock.EARLIEST;
+import static io.sdavids.commons.time.IntervalClock.INTERVAL_LENGTH;
+import static io.sdavids.commons.time.IntervalClock.LATEST;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class IntervalClockTest {
+
+  private static final long START = FIXED_INSTANT.getEpochSecond() * 1_000_000_000L;
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private final VirtualClockSupplier supplier = VirtualClockSupplier.create(FIXED_INSTANT);
+
+  private final IntervalClock clock = IntervalClock.create(supplier, Duration.ofMillis(1L), 200L);
+
+  private final long[] interval = new long[2];
+
+  @Test
+  public void create_null_clockSupplier() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("clockSupplier");
+
+    IntervalClock.create(null, Duration.ZERO, 0L);
+  }
+
+  @Test
+  public void create_negative_drift() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("driftPpm must not be negative");
+
+    IntervalClock.create(supplier, Duration.ZERO, -1L);
+  }
+
+  @Test
+  public void create_negative_uncertainty() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("uncertainty must not be negative");
+
+    IntervalClock.create(supplier, Duration.ofNanos(-1L), 0L);
+  }
+
+  @Test
+  public void now_too_small() {
+    expectedException.expect(IndexOutOfBoundsException.class);
+    expectedException.expectMessage("offset: 0");
+
+    clock.now(new long[INTERVAL_LENGTH - 1], 0);
+  }
+
+  @Test
+  public void now_offset_negative() {
+    expectedException.expect(IndexOutOfBoundsException.class);
+    expectedException.expectMessage("offset: -1");
+
+    clock.now(new long[INTERVAL_LENGTH], -1);
+  }
+
+  @Test
+  public void now_offset_too_large() {
+    expectedException.expect(IndexOutOfBoundsException.class);
+    expectedException.expectMessage("offset: 2");
+
+    clock.now(new long[INTERVAL_LENGTH + 1], 2);
+  }
+
+  @Test
+  public void now_offset() {
+    long[] intervals = new long[INTERVAL_LENGTH + 2];
+
+    clock.now(intervals, 1);
+
+    assertThat(intervals).containsExactly(0L, START - 1_000_000L, START + 1_000_000L, 0L);
+  }
+
+  @Test
+  public void now_() {
+    clock.now(interval, 0);
+
+    assertThat(interval).containsExactly(START - 1_000_000L, START + 1_000_000L);
+    assertThat(clock.uncertaintyNanos()).isEqualTo(1_000_000L);
+
+    supplier.advance(Duration.ofSeconds(10L));
+
+    clock.now(interval, 0);
+
+    // 200ppm of 10s
+    long error = 1_000_000L + 2_000_000L;
+    long now = START + 10_000_000_000L;
+
+    assertThat(interval[EARLIEST]).isEqualTo(now - error);
+    assertThat(interval[LATEST]).isEqualTo(now + error);
+    assertThat(clock.uncertaintyNanos()).isEqualTo(error);
+  }
+
+  @Test
+  public void drift_large_elapsed() {
+    supplier.advance(Duration.ofDays(3_650L));
+
+    assertThat(clock.uncertaintyNanos())
+        .isEqualTo(1_000_000L + Duration.ofDays(3_650L).toNanos() / 5_000L);
+  }
+
+  @Test
+  public void synchronize_() {
+    supplier.advance(Duration.ofSeconds(10L));
+
+    clock.synchronize();
+
+    assertThat(clock.uncertaintyNanos()).isEqualTo(1_000_000L);
+
+    clock.synchronize(START, Duration.ofNanos(500L));
+
+    clock.now(interval, 0);
+
+    assertThat(interval).containsExactly(START - 500L, START + 500L);
+  }
+
+  @Test
+  public void isAfter_isBefore() {
+    assertThat(clock.isAfter(START - 1_000_001L)).isTrue();
+    assertThat(clock.isAfter(START - 1_000_000L)).isFalse();
+    assertThat(clock.isBefore(START + 1_000_001L)).isTrue();
+    assertThat(clock.isBefore(START + 1_000_000L)).isFalse();
+  }
+
+  @Test
+  public void waitUntilAfter_() throws InterruptedException {
+    IntervalClock system = IntervalClock.create();
+
+    system.now(interval, 0);
+
+    long timestamp = interval[LATEST];
+
+    system.waitUntilAfter(timestamp);
+
+    assertThat(system.isAfter(timestamp)).isTrue();
+  }
+
+  @Test
+  public void waitUntilAfter_virtual() throws InterruptedException {
+    clock.now(interval, 0);
+
+    long timestamp = interval[LATEST];
+
+    CountDownLatch done = new CountDownLatch(1);
+    AtomicReference<Exception> failure = new AtomicReference<>();
+
+    Thread waiter =
+        new Thread(
+            () -> {
+              try {
+                clock.waitUntilAfter(timestamp);
+                done.countDown();
+              } catch (InterruptedException | RuntimeException e) {
+                failure.set(e);
+              }
+            });
+    waiter.start();
+
+    assertThat(done.await(20L, TimeUnit.MILLISECONDS)).isFalse();
+
+    supplier.advance(Duration.ofMillis(3L));
+
+    assertThat(done.await(10L, TimeUnit.SECONDS)).isTrue();
+    assertThat(failure.get()).isNull();
+  }
+
+  @Test
+  public void waitUntilAfter_interrupted() throws InterruptedException {
+    AtomicReference<Exception> failure = new AtomicReference<>();
+
+    Thread waiter =
+        new Thread(
+            () -> {
+              try {
+                clock.waitUntilAfter(START + 1_000_000_000L);
+              } catch (InterruptedException | RuntimeException e) {
+                failure.set(e);
+              }
+            });
+    waiter.start();
+    waiter.interrupt();
+    waiter.join(10_000L);
+
+    assertThat(failure.get()).isInstanceOf(InterruptedException.class);
+  }
+
+  @Test
+  public void toString_() {
+    assertThat(clock)
+        .hasToString(
+            "IntervalClock(VirtualClockSupplier(2017-10-02T17:03:00Z, Z), PT0.001S, 200ppm)");
+  }
+}
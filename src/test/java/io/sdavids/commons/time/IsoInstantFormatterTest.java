@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.IsoInstantFormatter.MILLIS_LENGTH;
+import static io.sdavids.commons.time.IsoInstantFormatter.NANOS_LENGTH;
+import static io.sdavids.commons.time.IsoInstantFormatter.formatMillis;
+import static io.sdavids.commons.time.IsoInstantFormatter.formatNanos;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Locale.ROOT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class IsoInstantFormatterTest {
+
+  private static final DateTimeFormatter MILLIS =
+      DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'", ROOT).withZone(UTC);
+
+  private static final DateTimeFormatter NANOS =
+      DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSS'Z'", ROOT).withZone(UTC);
+
+  // 0000-01-01T00:00:00Z
+  private static final long MIN_EPOCH_MILLIS = -62_167_219_200_000L;
+
+  // 9999-12-31T23:59:59.999Z
+  private static final long MAX_EPOCH_MILLIS = 253_402_300_799_999L;
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private static String millis(long epochMillis) {
+    byte[] dst = new byte[MILLIS_LENGTH + 2];
+
+    assertThat(formatMillis(epochMillis, dst, 1)).isEqualTo(MILLIS_LENGTH + 1);
+
+    return new String(dst, 1, MILLIS_LENGTH, US_ASCII);
+  }
+
+  private static String nanos(long epochNanos) {
+    byte[] dst = new byte[NANOS_LENGTH];
+
+    assertThat(formatNanos(epochNanos, dst, 0)).isEqualTo(NANOS_LENGTH);
+
+    return new String(dst, US_ASCII);
+  }
+
+  @Test
+  public void formatMillis_() {
+    assertThat(millis(FIXED_INSTANT.toEpochMilli() + 7L)).isEqualTo("2017-10-02T17:03:00.007Z");
+  }
+
+  @Test
+  public void formatMillis_epoch() {
+    assertThat(millis(0L)).isEqualTo("1970-01-01T00:00:00.000Z");
+  }
+
+  @Test
+  public void formatMillis_before_epoch() {
+    assertThat(millis(-1L)).isEqualTo("1969-12-31T23:59:59.999Z");
+  }
+
+  @Test
+  public void formatMillis_leap_day() {
+    assertThat(millis(Instant.parse("2000-02-29T12:34:56.789Z").toEpochMilli()))
+        .isEqualTo("2000-02-29T12:34:56.789Z");
+  }
+
+  @Test
+  public void formatMillis_min() {
+    assertThat(millis(MIN_EPOCH_MILLIS)).isEqualTo("0000-01-01T00:00:00.000Z");
+  }
+
+  @Test
+  public void formatMillis_max() {
+    assertThat(millis(MAX_EPOCH_MILLIS)).isEqualTo("9999-12-31T23:59:59.999Z");
+  }
+
+  @Test
+  public void formatMillis_too_small() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("epochMillis");
+
+    formatMillis(MIN_EPOCH_MILLIS - 1L, new byte[MILLIS_LENGTH], 0);
+  }
+
+  @Test
+  public void formatMillis_too_large() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("epochMillis");
+
+    formatMillis(MAX_EPOCH_MILLIS + 1L, new byte[MILLIS_LENGTH], 0);
+  }
+
+  @Test
+  public void formatMillis_array_too_small() {
+    expectedException.expect(IndexOutOfBoundsException.class);
+
+    formatMillis(0L, new byte[MILLIS_LENGTH], 1);
+  }
+
+  @Test
+  public void formatMillis_random() {
+    Random random = new Random(42L);
+
+    for (int i = 0; i < 100_000; i++) {
+      long epochMillis =
+          MIN_EPOCH_MILLIS + (long) (random.nextDouble() * (MAX_EPOCH_MILLIS - MIN_EPOCH_MILLIS));
+
+      assertThat(millis(epochMillis))
+          .isEqualTo(MILLIS.format(Instant.ofEpochMilli(epochMillis)))
+          .isEqualTo(formatMillis(epochMillis, new StringBuilder()).toString());
+    }
+  }
+
+  @Test
+  public void formatMillis_heap_buffer() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    buffer.position(3);
+
+    formatMillis(0L, buffer);
+
+    assertThat(buffer.position()).isEqualTo(3 + MILLIS_LENGTH);
+    assertThat(new String(buffer.array(), 3, MILLIS_LENGTH, US_ASCII))
+        .isEqualTo("1970-01-01T00:00:00.000Z");
+  }
+
+  @Test
+  public void formatMillis_direct_buffer() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(MILLIS_LENGTH);
+
+    formatMillis(0L, buffer);
+
+    buffer.flip();
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+
+    assertThat(new String(bytes, US_ASCII)).isEqualTo("1970-01-01T00:00:00.000Z");
+  }
+
+  @Test
+  public void formatMillis_buffer_too_small() {
+    expectedException.expect(BufferOverflowException.class);
+
+    formatMillis(0L, ByteBuffer.allocate(MILLIS_LENGTH - 1));
+  }
+
+  @Test
+  public void formatMillis_string_builder() {
+    assertThat(formatMillis(0L, new StringBuilder("ts=")))
+        .hasToString("ts=1970-01-01T00:00:00.000Z");
+  }
+
+  @Test
+  public void formatNanos_() {
+    assertThat(nanos(-1L)).isEqualTo("1969-12-31T23:59:59.999999999Z");
+    assertThat(nanos(Long.MIN_VALUE)).isEqualTo("1677-09-21T00:12:43.145224192Z");
+    assertThat(nanos(Long.MAX_VALUE)).isEqualTo("2262-04-11T23:47:16.854775807Z");
+  }
+
+  @Test
+  public void formatNanos_random() {
+    Random random = new Random(42L);
+
+    for (int i = 0; i < 100_000; i++) {
+      long epochNanos = random.nextLong();
+
+      Instant instant =
+          Instant.ofEpochSecond(
+              Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L));
+
+      assertThat(nanos(epochNanos))
+          .isEqualTo(NANOS.format(instant))
+          .isEqualTo(formatNanos(epochNanos, new StringBuilder()).toString());
+    }
+  }
+
+  @Test
+  public void formatNanos_buffers() {
+    ByteBuffer heap = ByteBuffer.allocate(NANOS_LENGTH);
+    ByteBuffer direct = ByteBuffer.allocateDirect(NANOS_LENGTH);
+
+    formatNanos(1L, heap);
+    formatNanos(1L, direct);
+
+    heap.flip();
+    direct.flip();
+
+    assertThat(direct).isEqualTo(heap);
+    assertThat(new String(heap.array(), US_ASCII)).isEqualTo("1970-01-01T00:00:00.000000001Z");
+  }
+}
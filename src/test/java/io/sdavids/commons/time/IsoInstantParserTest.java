@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.IsoInstantParser.parseMillis;
+import static io.sdavids.commons.time.IsoInstantParser.parseNanos;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Locale.ROOT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class IsoInstantParserTest {
+
+  // 0000-01-01T00:00:00Z
+  private static final long MIN_EPOCH_SECOND = -62_167_219_200L;
+
+  // 9999-12-31T23:59:59Z
+  private static final long MAX_EPOCH_SECOND = 253_402_300_799L;
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private static long millis(Instant instant) {
+    return instant.getEpochSecond() * 1_000L + instant.getNano() / 1_000_000;
+  }
+
+  private static long nanos(Instant instant) {
+    return Math.addExact(
+        Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+  }
+
+  @Test
+  public void parseMillis_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("text");
+
+    parseMillis((CharSequence) null);
+  }
+
+  @Test
+  public void parseMillis_utc() {
+    assertThat(parseMillis("2017-10-02T17:03:00Z")).isEqualTo(FIXED_INSTANT.toEpochMilli());
+    assertThat(parseMillis("2017-10-02t17:03:00.007z"))
+        .isEqualTo(FIXED_INSTANT.toEpochMilli() + 7L);
+    assertThat(parseMillis("2017-10-02 17:03:00.0079Z"))
+        .isEqualTo(FIXED_INSTANT.toEpochMilli() + 7L);
+  }
+
+  @Test
+  public void parseMillis_offset() {
+    assertThat(parseMillis("2017-10-02T19:03:00+02:00")).isEqualTo(FIXED_INSTANT.toEpochMilli());
+    assertThat(parseMillis("2017-10-02T12:33:00-04:30")).isEqualTo(FIXED_INSTANT.toEpochMilli());
+    assertThat(parseMillis("2017-10-02T17:03:00-00:00")).isEqualTo(FIXED_INSTANT.toEpochMilli());
+  }
+
+  @Test
+  public void parseMillis_before_epoch() {
+    assertThat(parseMillis("1969-12-31T23:59:59.9999Z")).isEqualTo(-1L);
+  }
+
+  @Test
+  public void parseMillis_range() {
+    assertThat(parseMillis("2017-10-02T17:03:00Z trailing", 0, 20))
+        .isEqualTo(FIXED_INSTANT.toEpochMilli());
+  }
+
+  @Test
+  public void parseMillis_range_out_of_bounds() {
+    expectedException.expect(IndexOutOfBoundsException.class);
+
+    parseMillis("2017-10-02T17:03:00Z", 1, 21);
+  }
+
+  @Test
+  public void parseMillis_bytes() {
+    byte[] bytes = "{\"ts\":\"2017-10-02T17:03:00.007Z\"}".getBytes(US_ASCII);
+
+    assertThat(parseMillis(bytes, 7, 24)).isEqualTo(FIXED_INSTANT.toEpochMilli() + 7L);
+  }
+
+  @Test
+  public void parseMillis_buffer() {
+    ByteBuffer heap = ByteBuffer.wrap("xx2017-10-02T17:03:00.007Z".getBytes(US_ASCII));
+    heap.position(2);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(heap.remaining());
+    direct.put(heap.duplicate());
+    direct.flip();
+
+    assertThat(parseMillis(heap)).isEqualTo(FIXED_INSTANT.toEpochMilli() + 7L);
+    assertThat(parseMillis(direct)).isEqualTo(FIXED_INSTANT.toEpochMilli() + 7L);
+    assertThat(heap.position()).isEqualTo(2);
+    assertThat(direct.position()).isZero();
+  }
+
+  @Test
+  public void parseNanos_() {
+    assertThat(parseNanos("1970-01-01T00:00:00.000000001Z")).isEqualTo(1L);
+    assertThat(parseNanos("1969-12-31T23:59:59.999999999Z")).isEqualTo(-1L);
+    assertThat(parseNanos("1677-09-21T00:12:43.145224192Z")).isEqualTo(Long.MIN_VALUE);
+    assertThat(parseNanos("2262-04-11T23:47:16.854775807Z")).isEqualTo(Long.MAX_VALUE);
+    assertThat(parseNanos("1970-01-01T00:00:00.000000001Z".getBytes(US_ASCII), 0, 30))
+        .isEqualTo(1L);
+    assertThat(parseNanos(ByteBuffer.wrap("1970-01-01T00:00:00.1Z".getBytes(US_ASCII))))
+        .isEqualTo(100_000_000L);
+  }
+
+  @Test
+  public void parseNanos_overflow() {
+    expectedException.expect(DateTimeParseException.class);
+    expectedException.expectMessage("epoch nanoseconds");
+
+    parseNanos("2262-04-11T23:47:16.854775808Z");
+  }
+
+  @Test
+  public void parseNanos_underflow() {
+    expectedException.expect(DateTimeParseException.class);
+    expectedException.expectMessage("epoch nanoseconds");
+
+    parseNanos("1677-09-21T00:12:43.145224191Z");
+  }
+
+  @Test
+  public void parse_invalid() {
+    assertInvalid("", 0);
+    assertInvalid("2017-10-02T17:03:00", 19);
+    assertInvalid("2017-10-02T17:03:00.Z", 20);
+    assertInvalid("2017-10-02T17:03:00.0000000001Z", 29);
+    assertInvalid("2017-10-02X17:03:00Z", 10);
+    assertInvalid("2017/10-02T17:03:00Z", 4);
+    assertInvalid("2017-1a-02T17:03:00Z", 6);
+    assertInvalid("2017-13-02T17:03:00Z", 5);
+    assertInvalid("2017-00-02T17:03:00Z", 5);
+    assertInvalid("2017-02-29T17:03:00Z", 8);
+    assertInvalid("2017-10-32T17:03:00Z", 8);
+    assertInvalid("2017-10-02T24:03:00Z", 11);
+    assertInvalid("2017-10-02T17:60:00Z", 14);
+    assertInvalid("2017-10-02T17:03:60Z", 17);
+    assertInvalid("2017-10-02T17:03:00+0200", 19);
+    assertInvalid("2017-10-02T17:03:00+02:0a", 24);
+    assertInvalid("2017-10-02T17:03:00+18:01", 19);
+    assertInvalid("2017-10-02T17:03:00+02:60", 19);
+    assertInvalid("2017-10-02T17:03:00Zx", 20);
+    assertInvalid("2017-10-02T17:03:00+02:00x", 25);
+    assertInvalid("+12017-10-02T17:03:00Z", 0);
+  }
+
+  private static void assertInvalid(String text, int errorIndex) {
+    Throwable thrown = catchThrowable(() -> parseMillis(text));
+
+    assertThat(thrown).as(text).isInstanceOf(DateTimeParseException.class);
+    assertThat(((DateTimeParseException) thrown).getErrorIndex()).as(text).isEqualTo(errorIndex);
+    assertThat(((DateTimeParseException) thrown).getParsedString()).isEqualTo(text);
+
+    Throwable thrownBytes =
+        catchThrowable(() -> parseMillis(ByteBuffer.wrap(text.getBytes(US_ASCII))));
+
+    assertThat(thrownBytes).hasMessage(thrown.getMessage());
+  }
+
+  @Test
+  public void parse_leap_day() {
+    assertThat(parseMillis("2000-02-29T00:00:00Z"))
+        .isEqualTo(Instant.parse("2000-02-29T00:00:00Z").toEpochMilli());
+    assertThat(parseMillis("2016-02-29T00:00:00Z"))
+        .isEqualTo(Instant.parse("2016-02-29T00:00:00Z").toEpochMilli());
+  }
+
+  @Test
+  public void parse_random() {
+    Random random = new Random(42L);
+
+    String[] patterns = {
+      "uuuu-MM-dd'T'HH:mm:ssXXX",
+      "uuuu-MM-dd'T'HH:mm:ss.SXXX",
+      "uuuu-MM-dd'T'HH:mm:ss.SSSXXX",
+      "uuuu-MM-dd'T'HH:mm:ss.SSSSSSXXX",
+      "uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSSXXX",
+    };
+
+    for (int i = 0; i < 100_000; i++) {
+      ZoneOffset offset = ZoneOffset.ofTotalSeconds((random.nextInt(36 * 4 + 1) - 18 * 4) * 900);
+
+      long epochSecond =
+          Math.max(
+              MIN_EPOCH_SECOND - offset.getTotalSeconds(),
+              Math.min(
+                  MAX_EPOCH_SECOND - offset.getTotalSeconds(),
+                  MIN_EPOCH_SECOND
+                      + (long) (random.nextDouble() * (MAX_EPOCH_SECOND - MIN_EPOCH_SECOND))));
+
+      Instant instant = Instant.ofEpochSecond(epochSecond, random.nextInt(1_000_000_000));
+
+      String text =
+          DateTimeFormatter.ofPattern(patterns[random.nextInt(patterns.length)], ROOT)
+              .format(OffsetDateTime.ofInstant(instant, offset));
+
+      Instant expected = OffsetDateTime.parse(text).toInstant();
+
+      assertThat(parseMillis(text)).as(text).isEqualTo(millis(expected));
+      assertThat(parseMillis(text.getBytes(US_ASCII), 0, text.length()))
+          .isEqualTo(millis(expected));
+
+      if (expected.getEpochSecond() > -9_223_372_036L
+          && expected.getEpochSecond() < 9_223_372_036L) {
+        assertThat(parseNanos(text)).as(text).isEqualTo(nanos(expected));
+      }
+    }
+  }
+}
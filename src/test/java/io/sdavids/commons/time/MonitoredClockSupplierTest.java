@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_ZONE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class MonitoredClockSupplierTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private static final long START = FIXED_INSTANT.toEpochMilli();
+
+  private final AdjustableClockSupplier clockSupplier = new AdjustableClockSupplier();
+
+  private final AtomicLong nanoTime = new AtomicLong(42L);
+
+  private final List<String> jumps = new ArrayList<>();
+
+  // advances both the wall clock and System.nanoTime()
+  private void advance(long millis) {
+    clockSupplier.advance(millis);
+    nanoTime.addAndGet(millis * 1_000_000L);
+  }
+
+  // moves the wall clock only
+  private void step(long millis) {
+    clockSupplier.advance(millis);
+  }
+
+  private MonitoredClockSupplier monitored(boolean clamp) {
+    MonitoredClockSupplier supplier =
+        new MonitoredClockSupplier(
+            clockSupplier, Duration.ofMillis(100L), clamp, Runnable::run, nanoTime::get);
+
+    supplier.addListener(
+        (expected, actual) -> jumps.add((expected - START) + "->" + (actual - START)));
+
+    return supplier;
+  }
+
+  @Test
+  public void monitored_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("supplier");
+
+    ClockSupplier.monitored(null);
+  }
+
+  @Test
+  public void monitored_threshold_too_small() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("threshold must be at least one millisecond");
+
+    ClockSupplier.monitored(clockSupplier, Duration.ofNanos(1L), false, Runnable::run);
+  }
+
+  @Test
+  public void monitored_default() {
+    MonitoredClockSupplier supplier =
+        ClockSupplier.monitored(ClockSupplier.systemUtcClockSupplier());
+
+    assertThat(supplier.get().millis()).isPositive();
+    assertThat(supplier)
+        .hasToString(
+            "ClockSupplier.monitored(ClockSupplier.systemUtcClockSupplier(), PT1S, false)");
+  }
+
+  @Test
+  public void get_equal_clocks() {
+    MonitoredClockSupplier supplier =
+        new MonitoredClockSupplier(
+            () -> Clock.fixed(FIXED_INSTANT, FIXED_ZONE),
+            Duration.ofMillis(100L),
+            false,
+            Runnable::run,
+            nanoTime::get);
+
+    assertThat(supplier.get()).isSameAs(supplier.get());
+  }
+
+  @Test
+  public void no_jump() {
+    MonitoredClockSupplier supplier = monitored(false);
+
+    for (int i = 0; i < 100; i++) {
+      supplier.get().millis();
+      advance(50L);
+    }
+
+    assertThat(jumps).isEmpty();
+  }
+
+  @Test
+  public void backward_step() {
+    MonitoredClockSupplier supplier = monitored(false);
+
+    supplier.get().millis();
+
+    advance(1_000L);
+    step(-500L);
+
+    assertThat(supplier.get().millis()).isEqualTo(START + 500L);
+    assertThat(jumps).containsExactly("1000->500");
+
+    advance(10L);
+
+    supplier.get().instant();
+
+    assertThat(jumps).hasSize(1);
+  }
+
+  @Test
+  public void forward_jump() {
+    MonitoredClockSupplier supplier = monitored(false);
+
+    supplier.get().millis();
+
+    step(101L);
+
+    supplier.get().withZone(FIXED_ZONE).millis();
+
+    assertThat(jumps).containsExactly("0->101");
+  }
+
+  @Test
+  public void within_threshold() {
+    MonitoredClockSupplier supplier = monitored(false);
+
+    supplier.get().millis();
+
+    step(100L);
+
+    supplier.get().millis();
+
+    assertThat(jumps).isEmpty();
+  }
+
+  @Test
+  public void drift_reanchored() {
+    MonitoredClockSupplier supplier = monitored(false);
+
+    supplier.get().millis();
+
+    // the wall clock runs 5% faster than System.nanoTime()
+    for (int i = 0; i < 100; i++) {
+      advance(1_000L);
+      step(50L);
+      supplier.get().millis();
+    }
+
+    assertThat(jumps).isEmpty();
+  }
+
+  @Test
+  public void clamp_() {
+    MonitoredClockSupplier supplier = monitored(true);
+
+    advance(1_000L);
+
+    assertThat(supplier.get().millis()).isEqualTo(START + 1_000L);
+
+    step(-500L);
+
+    assertThat(supplier.get().millis()).isEqualTo(START + 1_000L);
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT.plusMillis(1_000L));
+
+    advance(600L);
+
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT.plusMillis(1_100L));
+  }
+
+  @Test
+  public void removeListener_() {
+    MonitoredClockSupplier supplier = monitored(false);
+
+    ClockJumpListener listener = (expected, actual) -> jumps.add("removed");
+
+    supplier.addListener(listener);
+    supplier.removeListener(listener);
+
+    supplier.get().millis();
+
+    step(-1_000L);
+
+    supplier.get().millis();
+
+    assertThat(jumps).containsExactly("0->-1000");
+  }
+}
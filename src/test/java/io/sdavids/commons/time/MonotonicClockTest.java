@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.MonotonicClock.REANCHOR_INTERVAL_NANOS;
+import static io.sdavids.commons.time.MonotonicClock.SLEW_SHIFT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public final class MonotonicClockTest {
+
+  private static final long WALL_MILLIS = 1_506_963_780_000L;
+
+  private final AtomicLong wallMillis = new AtomicLong(WALL_MILLIS);
+  private final AtomicLong nanoTime = new AtomicLong(42L);
+
+  private final MonotonicClock clock =
+      new MonotonicClock(ZoneOffset.UTC, new MonotonicClock.Source(wallMillis::get, nanoTime::get));
+
+  private void advance(long nanos) {
+    nanoTime.addAndGet(nanos);
+    wallMillis.addAndGet(nanos / 1_000_000L);
+  }
+
+  @Test
+  public void epochNanos_derived_from_nanoTime() {
+    assertThat(clock.epochNanos()).isEqualTo(WALL_MILLIS * 1_000_000L);
+
+    nanoTime.addAndGet(123_456_789L);
+
+    assertThat(clock.epochNanos()).isEqualTo(WALL_MILLIS * 1_000_000L + 123_456_789L);
+    assertThat(clock.epochMicros()).isEqualTo(WALL_MILLIS * 1_000L + 123_456L);
+    assertThat(clock.millis()).isEqualTo(WALL_MILLIS + 123L);
+    assertThat(clock.instant())
+        .isEqualTo(Instant.ofEpochMilli(WALL_MILLIS).plusNanos(123_456_789L));
+    assertThat(clock.monotonicNanos()).isEqualTo(42L + 123_456_789L);
+  }
+
+  @Test
+  public void system_clock_stepped_forward() {
+    long start = clock.epochNanos();
+
+    wallMillis.addAndGet(60_000L);
+
+    assertThat(clock.epochNanos()).isEqualTo(start);
+
+    advance(REANCHOR_INTERVAL_NANOS);
+
+    assertThat(clock.epochNanos())
+        .isEqualTo(start + REANCHOR_INTERVAL_NANOS + 60_000L * 1_000_000L);
+  }
+
+  @Test
+  public void system_clock_stepped_backward() {
+    long start = clock.epochNanos();
+
+    wallMillis.addAndGet(-60_000L);
+
+    advance(REANCHOR_INTERVAL_NANOS);
+
+    long reanchored = clock.epochNanos();
+
+    assertThat(reanchored).isEqualTo(start + REANCHOR_INTERVAL_NANOS);
+
+    long previous = reanchored;
+    for (int i = 0; i < 10; i++) {
+      advance(REANCHOR_INTERVAL_NANOS / 10L);
+
+      long current = clock.epochNanos();
+
+      assertThat(current).isGreaterThan(previous);
+
+      previous = current;
+    }
+
+    assertThat(previous - reanchored)
+        .isEqualTo(REANCHOR_INTERVAL_NANOS - (REANCHOR_INTERVAL_NANOS >> SLEW_SHIFT));
+  }
+
+  @Test
+  public void withZone() {
+    assertThat(clock.withZone(ZoneOffset.UTC)).isSameAs(clock);
+    assertThat(clock.withZone(ZoneOffset.ofHours(2)).getZone()).isEqualTo(ZoneOffset.ofHours(2));
+    assertThat(clock.withZone(ZoneOffset.ofHours(2)).millis()).isEqualTo(clock.millis());
+  }
+}
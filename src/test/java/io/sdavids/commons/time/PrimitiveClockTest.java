@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.coarseUtcClockSupplier;
+import static io.sdavids.commons.time.ClockSupplier.fixedClockSupplier;
+import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.ClockSupplier.systemDefaultZoneClockSupplier;
+import static io.sdavids.commons.time.ClockSupplier.systemUtcClockSupplier;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_ZONE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class PrimitiveClockTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void of_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("supplier");
+
+    PrimitiveClock.of(null);
+  }
+
+  @Test
+  public void of_systemUtcClockSupplier() throws InterruptedException {
+    PrimitiveClock clock = PrimitiveClock.of(systemUtcClockSupplier());
+
+    assertThat(PrimitiveClock.of(systemUtcClockSupplier())).isSameAs(clock);
+
+    long before = System.currentTimeMillis();
+    long millis = clock.epochMillis();
+    long micros = clock.epochMicros();
+    long nanos = clock.epochNanos();
+    long after = System.currentTimeMillis();
+
+    assertThat(millis).isBetween(before, after);
+    assertThat(micros).isBetween(before * 1_000L, (after + 1L) * 1_000L);
+    assertThat(nanos).isBetween(before * 1_000_000L, (after + 1L) * 1_000_000L);
+
+    long monotonic = clock.monotonicNanos();
+
+    MILLISECONDS.sleep(10L);
+
+    assertThat(clock.monotonicNanos() - monotonic).isGreaterThanOrEqualTo(10_000_000L);
+  }
+
+  @Test
+  public void of_systemDefaultZoneClockSupplier() {
+    PrimitiveClock clock = PrimitiveClock.of(systemDefaultZoneClockSupplier());
+
+    long before = System.currentTimeMillis();
+
+    assertThat(clock.epochMillis()).isBetween(before, System.currentTimeMillis());
+  }
+
+  @Test
+  public void of_fixedClockSupplier() {
+    PrimitiveClock clock = PrimitiveClock.of(fixedClockSupplier(FIXED_INSTANT, FIXED_ZONE));
+
+    assertThat(clock.epochMillis()).isEqualTo(1506963780000L);
+    assertThat(clock.epochMicros()).isEqualTo(1506963780000000L);
+    assertThat(clock.epochNanos()).isEqualTo(1506963780000000000L);
+    assertThat(clock.monotonicNanos()).isEqualTo(clock.monotonicNanos());
+  }
+
+  @Test
+  public void of_fixedUtcClockSupplier_before_epoch() {
+    PrimitiveClock clock =
+        PrimitiveClock.of(fixedUtcClockSupplier(Instant.ofEpochSecond(-2L, 500_123_456L)));
+
+    assertThat(clock.epochMillis()).isEqualTo(-1_500L);
+    assertThat(clock.epochMicros()).isEqualTo(-1_499_877L);
+    assertThat(clock.epochNanos()).isEqualTo(-1_499_876_544L);
+  }
+
+  @Test
+  public void of_fixedUtcClockSupplier_out_of_range() {
+    PrimitiveClock clock =
+        PrimitiveClock.of(fixedUtcClockSupplier(Instant.parse("2263-01-01T00:00:00Z")));
+
+    assertThat(clock.epochMicros()).isEqualTo(9_246_182_400_000_000L);
+
+    expectedException.expect(ArithmeticException.class);
+
+    clock.epochNanos();
+  }
+
+  @Test
+  public void of_coarseUtcClockSupplier() {
+    PrimitiveClock clock = PrimitiveClock.of(coarseUtcClockSupplier(Duration.ofMillis(1L)));
+
+    long before = System.currentTimeMillis();
+
+    assertThat(clock.epochMillis()).isBetween(before - 1_000L, System.currentTimeMillis());
+    assertThat(clock.epochNanos() % 1_000_000L).isZero();
+  }
+
+  @Test
+  public void of_other() {
+    Clock fixed = Clock.fixed(Instant.ofEpochSecond(1L, 123_456_789L), FIXED_ZONE);
+
+    PrimitiveClock clock = PrimitiveClock.of(() -> fixed);
+
+    assertThat(clock.epochMillis()).isEqualTo(1_123L);
+    assertThat(clock.epochMicros()).isEqualTo(1_123_456L);
+    assertThat(clock.epochNanos()).isEqualTo(1_123_456_789L);
+  }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Stream.generate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class RateLimiterTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private final AdjustableClockSupplier clockSupplier = new AdjustableClockSupplier();
+
+  private static int acquireAll(RateLimiter limiter) {
+    int acquired = 0;
+    while (limiter.tryAcquire()) {
+      acquired++;
+    }
+    return acquired;
+  }
+
+  @Test
+  public void tokenBucket_null_clockSupplier() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("clockSupplier");
+
+    RateLimiter.tokenBucket(null, 10L, Duration.ofSeconds(1L), 10L);
+  }
+
+  @Test
+  public void tokenBucket_permits_zero() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("permits must be positive");
+
+    RateLimiter.tokenBucket(clockSupplier, 0L, Duration.ofSeconds(1L), 10L);
+  }
+
+  @Test
+  public void tokenBucket_burst_zero() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("burst must be positive");
+
+    RateLimiter.tokenBucket(clockSupplier, 10L, Duration.ofSeconds(1L), 0L);
+  }
+
+  @Test
+  public void tokenBucket_rate_too_high() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("period / permits");
+
+    RateLimiter.tokenBucket(clockSupplier, 2L, Duration.ofNanos(1L), 1L);
+  }
+
+  @Test
+  public void tokenBucket_burst() {
+    RateLimiter limiter = RateLimiter.tokenBucket(clockSupplier, 10L, Duration.ofSeconds(1L), 5L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+  }
+
+  @Test
+  public void tokenBucket_refill() {
+    RateLimiter limiter = RateLimiter.tokenBucket(clockSupplier, 10L, Duration.ofSeconds(1L), 5L);
+
+    acquireAll(limiter);
+
+    clockSupplier.advance(99L);
+
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    clockSupplier.advance(1L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(1);
+
+    clockSupplier.advance(350L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(3);
+
+    clockSupplier.advance(Duration.ofHours(1L).toMillis());
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+  }
+
+  @Test
+  public void tokenBucket_permits() {
+    RateLimiter limiter = RateLimiter.tokenBucket(clockSupplier, 10L, Duration.ofSeconds(1L), 5L);
+
+    assertThat(limiter.tryAcquire(6)).isFalse();
+    assertThat(limiter.tryAcquire(3)).isTrue();
+    assertThat(limiter.tryAcquire(3)).isFalse();
+    assertThat(limiter.tryAcquire(2)).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+  }
+
+  @Test
+  public void tokenBucket_clock_goes_backward() {
+    RateLimiter limiter = RateLimiter.tokenBucket(clockSupplier, 10L, Duration.ofSeconds(1L), 5L);
+
+    acquireAll(limiter);
+
+    clockSupplier.advance(-1_000L);
+
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    clockSupplier.advance(1_100L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(1);
+  }
+
+  @Test
+  public void tryAcquire_permits_zero() {
+    RateLimiter limiter = RateLimiter.tokenBucket(clockSupplier, 10L, Duration.ofSeconds(1L), 5L);
+
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("permits must be positive");
+
+    limiter.tryAcquire(0);
+  }
+
+  @Test
+  public void tokenBucket_concurrent() throws InterruptedException, ExecutionException {
+    RateLimiter limiter =
+        RateLimiter.tokenBucket(
+            fixedUtcClockSupplier(FIXED_INSTANT), 10L, Duration.ofSeconds(1L), 1_000L);
+
+    assertThat(acquireConcurrently(limiter)).isEqualTo(1_000);
+  }
+
+  @Test
+  public void striped_null_clockSupplier() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("clockSupplier");
+
+    RateLimiter.striped(null, 10L, Duration.ofSeconds(1L), 10L);
+  }
+
+  @Test
+  public void striped_burst_zero() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("burst must be positive");
+
+    RateLimiter.striped(clockSupplier, 10L, Duration.ofSeconds(1L), 0L);
+  }
+
+  @Test
+  public void striped_burst() {
+    RateLimiter limiter = RateLimiter.striped(clockSupplier, 10L, Duration.ofSeconds(1L), 5L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+    assertThat(limiter.toString()).startsWith("RateLimiter.striped(");
+  }
+
+  @Test
+  public void striped_refill() {
+    RateLimiter limiter = RateLimiter.striped(clockSupplier, 10L, Duration.ofSeconds(1L), 5L);
+
+    acquireAll(limiter);
+
+    clockSupplier.advance(99L);
+
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    clockSupplier.advance(1L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(1);
+
+    clockSupplier.advance(350L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(3);
+
+    clockSupplier.advance(Duration.ofHours(1L).toMillis());
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+  }
+
+  @Test
+  public void striped_permits() {
+    RateLimiter limiter = RateLimiter.striped(clockSupplier, 10L, Duration.ofSeconds(1L), 5L);
+
+    assertThat(limiter.tryAcquire(6)).isFalse();
+    assertThat(limiter.tryAcquire(1)).isTrue();
+  }
+
+  @Test
+  public void striped_clock_goes_backward() {
+    RateLimiter limiter = RateLimiter.striped(clockSupplier, 10L, Duration.ofSeconds(1L), 5L);
+
+    acquireAll(limiter);
+
+    clockSupplier.advance(-1_000L);
+
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    clockSupplier.advance(1_100L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(1);
+  }
+
+  @Test
+  public void striped_concurrent() throws InterruptedException, ExecutionException {
+    RateLimiter limiter =
+        RateLimiter.striped(
+            fixedUtcClockSupplier(FIXED_INSTANT), 10L, Duration.ofSeconds(1L), 1_000L);
+
+    assertThat(acquireConcurrently(limiter)).isEqualTo(1_000);
+  }
+
+  @Test
+  public void slidingWindow_null_clockSupplier() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("clockSupplier");
+
+    RateLimiter.slidingWindow(null, 10, Duration.ofSeconds(1L));
+  }
+
+  @Test
+  public void slidingWindow_limit_too_large() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("limit must be between 1 and 65535");
+
+    RateLimiter.slidingWindow(clockSupplier, 65_536, Duration.ofSeconds(1L));
+  }
+
+  @Test
+  public void slidingWindow_window_too_small() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("window must be at least one millisecond");
+
+    RateLimiter.slidingWindow(clockSupplier, 10, Duration.ofNanos(1L));
+  }
+
+  @Test
+  public void slidingWindow_long_idle() {
+    RateLimiter limiter = RateLimiter.slidingWindow(clockSupplier, 5, Duration.ofMillis(1L));
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+
+    // more than 2^31 windows
+    clockSupplier.advance((1L << 31) + 10L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+
+    clockSupplier.advance(2L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+  }
+
+  @Test
+  public void slidingWindow_idle_multiple_of_window_id_range() {
+    RateLimiter limiter = RateLimiter.slidingWindow(clockSupplier, 5, Duration.ofMillis(1L));
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+
+    // the same window id modulo 2^32
+    clockSupplier.advance(1L << 32);
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+  }
+
+  @Test
+  public void slidingWindow_window_id_wraps() {
+    RateLimiter limiter = RateLimiter.slidingWindow(clockSupplier, 5, Duration.ofMillis(1L));
+
+    clockSupplier.advance((1L << 32) - 1L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+
+    // window id 2^32 is the next window, not the first one
+    clockSupplier.advance(1L);
+
+    assertThat(acquireAll(limiter)).isZero();
+
+    clockSupplier.advance(1L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+  }
+
+  @Test
+  public void slidingWindow_() {
+    RateLimiter limiter = RateLimiter.slidingWindow(clockSupplier, 10, Duration.ofSeconds(1L));
+
+    assertThat(acquireAll(limiter)).isEqualTo(10);
+
+    clockSupplier.advance(999L);
+
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    // previous window weighted by 75%: 7 + 3
+    clockSupplier.advance(251L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(3);
+
+    // previous window weighted by 25%: 2 + 3 + 5
+    clockSupplier.advance(500L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(5);
+
+    clockSupplier.advance(2_000L);
+
+    assertThat(acquireAll(limiter)).isEqualTo(10);
+  }
+
+  @Test
+  public void slidingWindow_permits() {
+    RateLimiter limiter = RateLimiter.slidingWindow(clockSupplier, 10, Duration.ofSeconds(1L));
+
+    assertThat(limiter.tryAcquire(11)).isFalse();
+    assertThat(limiter.tryAcquire(6)).isTrue();
+    assertThat(limiter.tryAcquire(5)).isFalse();
+    assertThat(limiter.tryAcquire(4)).isTrue();
+  }
+
+  @Test
+  public void slidingWindow_clock_goes_backward() {
+    RateLimiter limiter = RateLimiter.slidingWindow(clockSupplier, 10, Duration.ofSeconds(1L));
+
+    clockSupplier.advance(1_500L);
+
+    acquireAll(limiter);
+
+    clockSupplier.advance(-1_000L);
+
+    assertThat(limiter.tryAcquire()).isFalse();
+  }
+
+  @Test
+  public void slidingWindow_concurrent() throws InterruptedException, ExecutionException {
+    RateLimiter limiter =
+        RateLimiter.slidingWindow(
+            fixedUtcClockSupplier(FIXED_INSTANT), 1_000, Duration.ofSeconds(1L));
+
+    assertThat(acquireConcurrently(limiter)).isEqualTo(1_000);
+  }
+
+  private static int acquireConcurrently(RateLimiter limiter)
+      throws InterruptedException, ExecutionException {
+
+    ExecutorService service = newFixedThreadPool(5);
+
+    List<Future<Boolean>> result =
+        service.invokeAll(
+            generate(() -> (Callable<Boolean>) limiter::tryAcquire)
+                .limit(10_000L)
+                .collect(toList()));
+
+    service.shutdown();
+    service.awaitTermination(1L, MINUTES);
+
+    int acquired = 0;
+    for (Future<Boolean> future : result) {
+      if (future.get()) {
+        acquired++;
+      }
+    }
+    return acquired;
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Stream.generate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class SnowflakeIdGeneratorTest {
+
+  private static final long FIXED_MILLIS = FIXED_INSTANT.toEpochMilli();
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void create_clockSupplier_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("clockSupplier");
+
+    SnowflakeIdGenerator.create(null, 0);
+  }
+
+  @Test
+  public void create_nodeId_out_of_range() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("nodeId");
+
+    SnowflakeIdGenerator.create(fixedUtcClockSupplier(FIXED_INSTANT), 1024);
+  }
+
+  @Test
+  public void create_layout_too_wide() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("nodeBits + sequenceBits");
+
+    SnowflakeIdGenerator.create(fixedUtcClockSupplier(FIXED_INSTANT), 0, Instant.EPOCH, 16, 16);
+  }
+
+  @Test
+  public void getAsLong_() {
+    SnowflakeIdGenerator generator =
+        SnowflakeIdGenerator.create(fixedUtcClockSupplier(FIXED_INSTANT), 513);
+
+    long first = generator.getAsLong();
+    long second = generator.getAsLong();
+
+    assertThat(first).isPositive();
+    assertThat(generator.epochMillis(first)).isEqualTo(FIXED_MILLIS);
+    assertThat(generator.nodeId(first)).isEqualTo(513);
+    assertThat(generator.sequence(first)).isZero();
+    assertThat(generator.sequence(second)).isEqualTo(1);
+    assertThat(second).isEqualTo(first + 1L);
+  }
+
+  @Test
+  public void getAsLong_sequence_exhausted() {
+    SnowflakeIdGenerator generator =
+        SnowflakeIdGenerator.create(fixedUtcClockSupplier(FIXED_INSTANT), 7);
+
+    long previous = generator.getAsLong();
+    for (int i = 1; i < 4096; i++) {
+      previous = generator.getAsLong();
+    }
+
+    assertThat(generator.sequence(previous)).isEqualTo(4095);
+
+    long next = generator.getAsLong();
+
+    assertThat(next).isGreaterThan(previous);
+    assertThat(generator.epochMillis(next)).isEqualTo(FIXED_MILLIS + 1L);
+    assertThat(generator.nodeId(next)).isEqualTo(7);
+    assertThat(generator.sequence(next)).isZero();
+  }
+
+  @Test
+  public void getAsLong_clock_goes_backward() {
+    AtomicReference<Clock> clock =
+        new AtomicReference<>(Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC));
+
+    SnowflakeIdGenerator generator = SnowflakeIdGenerator.create(clock::get, 1);
+
+    long first = generator.getAsLong();
+
+    clock.set(Clock.offset(clock.get(), Duration.ofSeconds(-1L)));
+
+    long second = generator.getAsLong();
+
+    assertThat(second).isGreaterThan(first);
+    assertThat(generator.epochMillis(second)).isEqualTo(FIXED_MILLIS);
+
+    clock.set(Clock.offset(clock.get(), Duration.ofSeconds(2L)));
+
+    assertThat(generator.epochMillis(generator.getAsLong())).isEqualTo(FIXED_MILLIS + 1_000L);
+  }
+
+  @Test
+  public void getAsLong_custom_layout() {
+    SnowflakeIdGenerator generator =
+        SnowflakeIdGenerator.create(
+            fixedUtcClockSupplier(FIXED_INSTANT), 3, FIXED_INSTANT.minusMillis(10L), 2, 4);
+
+    long id = generator.getAsLong();
+
+    assertThat(id).isEqualTo(10L << 6 | 3L << 4);
+    assertThat(generator.epochMillis(id)).isEqualTo(FIXED_MILLIS);
+    assertThat(generator.nodeId(id)).isEqualTo(3);
+  }
+
+  @Test
+  public void getAsLong_concurrent() throws InterruptedException, ExecutionException {
+    SnowflakeIdGenerator generator =
+        SnowflakeIdGenerator.create(fixedUtcClockSupplier(FIXED_INSTANT), 1);
+
+    ExecutorService service = newFixedThreadPool(5);
+
+    List<Future<Long>> result =
+        service.invokeAll(
+            generate(() -> (Callable<Long>) generator::getAsLong).limit(10_000L).collect(toList()));
+
+    service.shutdown();
+    service.awaitTermination(1L, MINUTES);
+
+    Set<Long> ids = new HashSet<>();
+    for (Future<Long> future : result) {
+      ids.add(future.get());
+    }
+
+    assertThat(ids).hasSize(10_000);
+  }
+}
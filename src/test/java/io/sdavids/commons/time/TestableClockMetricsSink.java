@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public final class TestableClockMetricsSink implements ClockMetricsSink {
+
+  private static final List<ClockMetrics> REGISTERED = new CopyOnWriteArrayList<>();
+
+  static List<ClockMetrics> registered() {
+    return REGISTERED;
+  }
+
+  static ClockMetrics registered(String name) {
+    return REGISTERED
+        .stream()
+        .filter(metrics -> metrics.getName().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("not registered: " + name));
+  }
+
+  @Override
+  public void register(ClockMetrics metrics) {
+    REGISTERED.add(metrics);
+  }
+
+  @Override
+  public void unregister(ClockMetrics metrics) {
+    REGISTERED.remove(metrics);
+  }
+}
@@ -21,6 +21,7 @@
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class TestableClockSupplier extends ClockSupplier {
 
@@ -29,6 +30,16 @@ public final class TestableClockSupplier extends ClockSupplier {
   static final Instant FIXED_INSTANT = OffsetDateTime.of(2017, 10, 2, 17, 3, 0, 0, UTC).toInstant();
   static final ZoneId FIXED_ZONE = ZoneId.of(FIXED_ZONE_ID);
 
+  private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+  static int instances() {
+    return INSTANCES.get();
+  }
+
+  public TestableClockSupplier() {
+    INSTANCES.incrementAndGet();
+  }
+
   @Override
   public Clock get() {
     return Clock.fixed(FIXED_INSTANT, FIXED_ZONE);
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class TimeBucketsTest {
+
+  private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+  private static final ZoneId KOLKATA = ZoneId.of("Asia/Kolkata");
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void fixed_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("width");
+
+    TimeBuckets.fixed(null);
+  }
+
+  @Test
+  public void fixed_too_small() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("width must be at least one millisecond");
+
+    TimeBuckets.fixed(Duration.ofNanos(1L));
+  }
+
+  @Test
+  public void fixed_fractional_millis() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("width must be a whole number of milliseconds: PT0.0015S");
+
+    TimeBuckets.fixed(Duration.ofNanos(1_500_000L));
+  }
+
+  @Test
+  public void fixed_() {
+    TimeBuckets buckets = TimeBuckets.fixed(Duration.ofSeconds(10L));
+
+    assertThat(buckets.bucket(0L)).isZero();
+    assertThat(buckets.bucket(9_999L)).isZero();
+    assertThat(buckets.bucket(10_000L)).isEqualTo(1L);
+    assertThat(buckets.bucket(-1L)).isEqualTo(-1L);
+    assertThat(buckets.start(-1L)).isEqualTo(-10_000L);
+    assertThat(buckets).hasToString("TimeBuckets.fixed(PT10S)");
+  }
+
+  @Test
+  public void minutes_utc() {
+    assertTruncated(TimeBuckets.minutes(UTC), UTC, MINUTES);
+  }
+
+  @Test
+  public void hours_zone() {
+    assertTruncated(TimeBuckets.hours(KOLKATA), KOLKATA, HOURS);
+    assertTruncated(TimeBuckets.hours(BERLIN), BERLIN, HOURS);
+  }
+
+  @Test
+  public void days_zone() {
+    assertTruncated(TimeBuckets.days(BERLIN), BERLIN, DAYS);
+    assertTruncated(
+        TimeBuckets.days(ZoneId.of("America/Sao_Paulo")), ZoneId.of("America/Sao_Paulo"), DAYS);
+  }
+
+  private static void assertTruncated(TimeBuckets buckets, ZoneId zone, ChronoUnit unit) {
+    Random random = new Random(42L);
+
+    long min = Instant.parse("1960-01-01T00:00:00Z").toEpochMilli();
+    long max = Instant.parse("2110-01-01T00:00:00Z").toEpochMilli();
+
+    for (int i = 0; i < 20_000; i++) {
+      long epochMillis = min + (long) (random.nextDouble() * (max - min));
+
+      ZonedDateTime dateTime = Instant.ofEpochMilli(epochMillis).atZone(zone);
+      long expected =
+          Math.floorDiv(
+              dateTime.toLocalDateTime().truncatedTo(unit).toEpochSecond(UTC),
+              unit.getDuration().getSeconds());
+
+      assertThat(buckets.bucket(epochMillis)).as("%s", dateTime).isEqualTo(expected);
+
+      if (unit == DAYS) {
+        assertThat(buckets.bucket(epochMillis)).isEqualTo(dateTime.toLocalDate().toEpochDay());
+      }
+    }
+  }
+
+  @Test
+  public void days_start() {
+    TimeBuckets buckets = TimeBuckets.days(BERLIN);
+
+    long day = LocalDate.of(2017, 10, 29).toEpochDay();
+
+    assertThat(buckets.start(day)).isEqualTo(Instant.parse("2017-10-28T22:00:00Z").toEpochMilli());
+    assertThat(buckets.start(day + 1L))
+        .isEqualTo(Instant.parse("2017-10-29T23:00:00Z").toEpochMilli());
+    assertThat(buckets.bucket(buckets.start(day))).isEqualTo(day);
+    assertThat(buckets.bucket(buckets.start(day + 1L) - 1L)).isEqualTo(day);
+  }
+
+  @Test
+  public void hours_start_random() {
+    TimeBuckets buckets = TimeBuckets.hours(BERLIN);
+
+    Random random = new Random(42L);
+
+    for (int i = 0; i < 10_000; i++) {
+      long epochMillis = FIXED_INSTANT.toEpochMilli() + random.nextInt() * 1_000L;
+
+      long bucket = buckets.bucket(epochMillis);
+
+      assertThat(buckets.start(bucket)).isLessThanOrEqualTo(epochMillis);
+      assertThat(buckets.bucket(buckets.start(bucket))).isEqualTo(bucket);
+    }
+  }
+
+  @Test
+  public void buckets_batch() {
+    Random random = new Random(42L);
+
+    long[] src = new long[1_000];
+    for (int i = 0; i < src.length; i++) {
+      src[i] = FIXED_INSTANT.toEpochMilli() + random.nextInt();
+    }
+
+    for (TimeBuckets buckets :
+        new TimeBuckets[] {TimeBuckets.fixed(Duration.ofMinutes(5L)), TimeBuckets.hours(BERLIN)}) {
+
+      long[] dst = new long[src.length + 2];
+
+      buckets.buckets(src, 0, dst, 2, src.length);
+
+      for (int i = 0; i < src.length; i++) {
+        assertThat(dst[i + 2]).isEqualTo(buckets.bucket(src[i]));
+      }
+
+      long[] inPlace = src.clone();
+
+      buckets.buckets(inPlace, 0, inPlace, 0, inPlace.length);
+
+      assertThat(inPlace).containsExactly(Arrays.copyOfRange(dst, 2, dst.length));
+    }
+  }
+
+  @Test
+  public void buckets_out_of_bounds() {
+    expectedException.expect(IndexOutOfBoundsException.class);
+
+    TimeBuckets.fixed(Duration.ofMinutes(1L)).buckets(new long[3], 1, new long[3], 0, 3);
+  }
+
+  @Test
+  public void buckets_dst_too_small() {
+    expectedException.expect(IndexOutOfBoundsException.class);
+
+    TimeBuckets.fixed(Duration.ofMinutes(1L)).buckets(new long[3], 0, new long[2], 0, 3);
+  }
+
+  @Test
+  public void currentBucket_() {
+    TimeBuckets buckets = TimeBuckets.minutes(BERLIN);
+
+    assertThat(buckets.currentBucket(fixedUtcClockSupplier(FIXED_INSTANT)))
+        .isEqualTo(buckets.bucket(FIXED_INSTANT.toEpochMilli()));
+    assertThat(buckets).hasToString("TimeBuckets.minutes(Europe/Berlin)");
+  }
+}
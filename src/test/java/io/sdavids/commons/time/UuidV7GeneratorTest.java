@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.ClockSupplier.fixedUtcClockSupplier;
+import static io.sdavids.commons.time.ClockSupplier.systemUtcClockSupplier;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Stream.generate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class UuidV7GeneratorTest {
+
+  private static final long FIXED_MILLIS = FIXED_INSTANT.toEpochMilli();
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void create_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("clockSupplier");
+
+    UuidV7Generator.create(null);
+  }
+
+  @Test
+  public void get_() {
+    Supplier<UUID> generator = UuidV7Generator.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    UUID uuid = generator.get();
+
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(UuidV7Generator.epochMillis(uuid)).isEqualTo(FIXED_MILLIS);
+    assertThat(uuid.toString()).startsWith("015ede0a-71a0-7");
+  }
+
+  @Test
+  public void get_strictly_increasing() {
+    Supplier<UUID> generator = UuidV7Generator.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    UUID previous = generator.get();
+    for (int i = 0; i < 10_000; i++) {
+      UUID current = generator.get();
+
+      assertThat(current.getMostSignificantBits()).isGreaterThan(previous.getMostSignificantBits());
+
+      previous = current;
+    }
+
+    assertThat(UuidV7Generator.epochMillis(previous)).isGreaterThan(FIXED_MILLIS);
+  }
+
+  @Test
+  public void get_system_clock() {
+    Supplier<UUID> generator = UuidV7Generator.create(systemUtcClockSupplier());
+
+    long before = System.currentTimeMillis();
+
+    UUID uuid = generator.get();
+
+    assertThat(UuidV7Generator.epochMillis(uuid)).isBetween(before, System.currentTimeMillis());
+  }
+
+  @Test
+  public void get_concurrent() throws InterruptedException, ExecutionException {
+    Supplier<UUID> generator = UuidV7Generator.create(fixedUtcClockSupplier(FIXED_INSTANT));
+
+    ExecutorService service = newFixedThreadPool(5);
+
+    List<Future<UUID>> result =
+        service.invokeAll(
+            generate(() -> (Callable<UUID>) generator::get).limit(10_000L).collect(toList()));
+
+    service.shutdown();
+    service.awaitTermination(1L, MINUTES);
+
+    Set<UUID> uuids = new HashSet<>();
+    for (Future<UUID> future : result) {
+      uuids.add(future.get());
+    }
+
+    assertThat(uuids).hasSize(10_000);
+  }
+
+  @Test
+  public void epochMillis_not_version_7() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("version 7");
+
+    UuidV7Generator.epochMillis(UUID.randomUUID());
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_ZONE;
+import static java.time.ZoneOffset.UTC;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class VirtualClockSupplierTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private final VirtualClockSupplier supplier = VirtualClockSupplier.create(FIXED_INSTANT);
+
+  @Test
+  public void create_null_start() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("start");
+
+    VirtualClockSupplier.create(null);
+  }
+
+  @Test
+  public void get_() {
+    Clock clock = supplier.get();
+
+    assertThat(clock.instant()).isEqualTo(FIXED_INSTANT);
+    assertThat(clock.getZone()).isEqualTo(UTC);
+    assertThat(clock).isSameAs(supplier.get());
+    assertThat(clock.withZone(FIXED_ZONE).getZone()).isEqualTo(FIXED_ZONE);
+    assertThat(VirtualClockSupplier.create(FIXED_INSTANT, FIXED_ZONE).get().getZone())
+        .isEqualTo(FIXED_ZONE);
+  }
+
+  @Test
+  public void advance_() {
+    Clock clock = supplier.get();
+    Clock zoned = clock.withZone(FIXED_ZONE);
+
+    supplier.advance(Duration.ofNanos(1_500_001L));
+
+    assertThat(clock.instant()).isEqualTo(FIXED_INSTANT.plusNanos(1_500_001L));
+    assertThat(clock.millis()).isEqualTo(FIXED_INSTANT.toEpochMilli() + 1L);
+    assertThat(zoned.instant()).isEqualTo(clock.instant());
+  }
+
+  @Test
+  public void advance_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("duration must not be negative");
+
+    supplier.advance(Duration.ofMillis(-1L));
+  }
+
+  @Test
+  public void advanceTo_past() {
+    supplier.advanceTo(FIXED_INSTANT.minusSeconds(1L));
+
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT);
+  }
+
+  @Test
+  public void primitiveClock_() {
+    PrimitiveClock clock = PrimitiveClock.of(supplier);
+
+    assertThat(clock).isSameAs(supplier.get());
+    assertThat(clock.monotonicNanos()).isZero();
+
+    supplier.advance(Duration.ofSeconds(1L));
+
+    assertThat(clock.epochNanos())
+        .isEqualTo(FIXED_INSTANT.getEpochSecond() * 1_000_000_000L + 1_000_000_000L);
+    assertThat(clock.epochMicros()).isEqualTo(clock.epochNanos() / 1_000L);
+    assertThat(clock.monotonicNanos()).isEqualTo(1_000_000_000L);
+  }
+
+  @Test
+  public void executor_runs_in_time_order() {
+    ScheduledExecutorService executor = supplier.executor();
+
+    List<String> events = new ArrayList<>();
+
+    ScheduledFuture<?> c =
+        executor.schedule(() -> events.add("c@" + supplier.get().instant()), 3L, SECONDS);
+    ScheduledFuture<?> a =
+        executor.schedule(() -> events.add("a@" + supplier.get().instant()), 1L, SECONDS);
+    ScheduledFuture<?> b =
+        executor.schedule(() -> events.add("b@" + supplier.get().instant()), 1L, SECONDS);
+    executor.execute(() -> events.add("now"));
+
+    assertThat(supplier.advance(Duration.ofSeconds(2L))).isEqualTo(3);
+    assertThat(events)
+        .containsExactly(
+            "now", "a@" + FIXED_INSTANT.plusSeconds(1L), "b@" + FIXED_INSTANT.plusSeconds(1L));
+    assertThat(a.isDone()).isTrue();
+    assertThat(b.isDone()).isTrue();
+    assertThat(c.isDone()).isFalse();
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT.plusSeconds(2L));
+
+    assertThat(supplier.advance(Duration.ofSeconds(1L))).isEqualTo(1);
+    assertThat(events).endsWith("c@" + FIXED_INSTANT.plusSeconds(3L));
+  }
+
+  @Test
+  public void executor_callable() throws InterruptedException, ExecutionException {
+    ScheduledFuture<Instant> future =
+        supplier.executor().schedule(() -> supplier.get().instant(), 10L, MILLISECONDS);
+
+    assertThat(future.getDelay(MILLISECONDS)).isEqualTo(10L);
+    assertThat(future.isDone()).isFalse();
+
+    supplier.advance(Duration.ofSeconds(1L));
+
+    assertThat(future.get()).isEqualTo(FIXED_INSTANT.plusMillis(10L));
+  }
+
+  @Test
+  public void executor_cancel() {
+    List<String> events = new ArrayList<>();
+
+    ScheduledFuture<?> future = supplier.executor().schedule(() -> events.add("a"), 1L, SECONDS);
+
+    assertThat(future.cancel(false)).isTrue();
+    assertThat(supplier.advanceToNextEvent()).isFalse();
+    assertThat(events).isEmpty();
+  }
+
+  @Test
+  public void executor_fixed_rate() {
+    List<Instant> events = new ArrayList<>();
+
+    ScheduledFuture<?> future =
+        supplier
+            .executor()
+            .scheduleAtFixedRate(() -> events.add(supplier.get().instant()), 1L, 2L, SECONDS);
+
+    assertThat(supplier.advance(Duration.ofSeconds(6L))).isEqualTo(3);
+    assertThat(events)
+        .containsExactly(
+            FIXED_INSTANT.plusSeconds(1L),
+            FIXED_INSTANT.plusSeconds(3L),
+            FIXED_INSTANT.plusSeconds(5L));
+
+    future.cancel(false);
+
+    assertThat(supplier.advance(Duration.ofSeconds(6L))).isZero();
+  }
+
+  @Test
+  public void executor_fixed_delay_task_advancing_time() {
+    List<Instant> events = new ArrayList<>();
+
+    ScheduledFuture<?> future =
+        supplier
+            .executor()
+            .scheduleWithFixedDelay(
+                () -> {
+                  events.add(supplier.get().instant());
+                  supplier.advance(Duration.ofMillis(500L));
+                },
+                0L,
+                1L,
+                SECONDS);
+
+    supplier.advance(Duration.ofSeconds(3L));
+
+    assertThat(events)
+        .containsExactly(
+            FIXED_INSTANT, FIXED_INSTANT.plusMillis(1_500L), FIXED_INSTANT.plusMillis(3_000L));
+    assertThat(future.isDone()).isFalse();
+  }
+
+  @Test
+  public void advanceToNextEvent_() {
+    List<String> events = new ArrayList<>();
+
+    ScheduledFuture<?> a = supplier.executor().schedule(() -> events.add("a"), 1L, SECONDS);
+    ScheduledFuture<?> b = supplier.executor().schedule(() -> events.add("b"), 1L, SECONDS);
+
+    assertThat(supplier.advanceToNextEvent()).isTrue();
+    assertThat(events).containsExactly("a", "b");
+    assertThat(a.isDone()).isTrue();
+    assertThat(b.isDone()).isTrue();
+    assertThat(supplier.get().instant()).isEqualTo(FIXED_INSTANT.plusSeconds(1L));
+    assertThat(supplier.advanceToNextEvent()).isFalse();
+  }
+
+  @Test
+  public void shutdown_() {
+    ScheduledExecutorService executor = supplier.executor();
+
+    List<String> events = new ArrayList<>();
+
+    ScheduledFuture<?> a = executor.schedule(() -> events.add("a"), 1L, SECONDS);
+    ScheduledFuture<?> b = executor.scheduleAtFixedRate(() -> events.add("b"), 1L, 1L, SECONDS);
+
+    executor.shutdown();
+
+    assertThat(executor.isShutdown()).isTrue();
+    assertThat(executor.isTerminated()).isFalse();
+
+    supplier.advance(Duration.ofSeconds(5L));
+
+    assertThat(events).containsExactly("a");
+    assertThat(executor.isTerminated()).isTrue();
+    assertThat(a.isDone()).isTrue();
+    assertThat(b.isCancelled()).isTrue();
+
+    expectedException.expect(RejectedExecutionException.class);
+
+    executor.execute(() -> events.add("c"));
+  }
+
+  @Test
+  public void shutdownNow_() {
+    ScheduledExecutorService executor = supplier.executor();
+
+    ScheduledFuture<?> first = executor.schedule(() -> {}, 1L, SECONDS);
+    ScheduledFuture<?> second = executor.schedule(() -> {}, 2L, SECONDS);
+
+    assertThat(executor.shutdownNow()).containsExactly((Runnable) first, (Runnable) second);
+    assertThat(executor.isTerminated()).isTrue();
+  }
+
+  @Test
+  public void toString_() {
+    assertThat(supplier).hasToString("VirtualClockSupplier(2017-10-02T17:03:00Z, Z)");
+  }
+}
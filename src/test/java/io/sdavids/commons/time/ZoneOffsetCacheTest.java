@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, Sebastian Davids
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sdavids.commons.time;
+
+import static io.sdavids.commons.time.TestableClockSupplier.FIXED_INSTANT;
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public final class ZoneOffsetCacheTest {
+
+  private static final String[] ZONES = {
+    "UTC",
+    "Europe/Berlin",
+    "America/New_York",
+    "America/Sao_Paulo",
+    "Asia/Kolkata",
+    "Australia/Lord_Howe",
+    "Pacific/Apia",
+    "Africa/Casablanca",
+  };
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void of_null() {
+    expectedException.expect(NullPointerException.class);
+    expectedException.expectMessage("zone");
+
+    ZoneOffsetCache.of(null, 2000, 2010);
+  }
+
+  @Test
+  public void of_from_after_to() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("fromYear must not be after toYear");
+
+    ZoneOffsetCache.of(UTC, 2010, 2000);
+  }
+
+  @Test
+  public void of_window_too_large() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("window");
+
+    ZoneOffsetCache.of(UTC, 1000, 2000);
+  }
+
+  @Test
+  public void offsetSeconds_fixed() {
+    ZoneOffsetCache cache = ZoneOffsetCache.of(ZoneOffset.ofHours(-3), 2000, 2000);
+
+    assertThat(cache.offsetSeconds(FIXED_INSTANT.getEpochSecond())).isEqualTo(-3 * 3_600);
+    assertThat(cache.offset(0L)).isEqualTo(ZoneOffset.ofHours(-3));
+  }
+
+  @Test
+  public void offsetSeconds_transitions() {
+    for (String zoneId : ZONES) {
+      ZoneId zone = ZoneId.of(zoneId);
+      ZoneRules rules = zone.getRules();
+
+      ZoneOffsetCache cache = ZoneOffsetCache.of(zone, 1990, 2040);
+
+      long end = LocalDate.of(2041, 1, 1).toEpochDay() * 86_400L;
+
+      ZoneOffsetTransition transition =
+          rules.nextTransition(
+              Instant.ofEpochSecond(LocalDate.of(1990, 1, 1).toEpochDay() * 86_400L));
+      while (transition != null && transition.toEpochSecond() < end) {
+        long epochSecond = transition.toEpochSecond();
+
+        for (long delta = -1L; delta <= 1L; delta++) {
+          assertThat(cache.offsetSeconds(epochSecond + delta))
+              .as("%s %s", zoneId, Instant.ofEpochSecond(epochSecond + delta))
+              .isEqualTo(
+                  rules.getOffset(Instant.ofEpochSecond(epochSecond + delta)).getTotalSeconds());
+        }
+
+        transition = rules.nextTransition(transition.getInstant());
+      }
+    }
+  }
+
+  @Test
+  public void offsetSeconds_random() {
+    Random random = new Random(42L);
+
+    long start = LocalDate.of(1950, 1, 1).toEpochDay() * 86_400L;
+    long end = LocalDate.of(2100, 1, 1).toEpochDay() * 86_400L;
+
+    for (String zoneId : ZONES) {
+      ZoneId zone = ZoneId.of(zoneId);
+      ZoneRules rules = zone.getRules();
+
+      ZoneOffsetCache cache = ZoneOffsetCache.of(zone, 1970, 2070);
+
+      for (int i = 0; i < 20_000; i++) {
+        long epochSecond = start + (long) (random.nextDouble() * (end - start));
+
+        assertThat(cache.offsetSeconds(epochSecond))
+            .as("%s %s", zoneId, Instant.ofEpochSecond(epochSecond))
+            .isEqualTo(rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds());
+      }
+    }
+  }
+
+  @Test
+  public void offsetSecondsOfEpochMilli_() {
+    ZoneOffsetCache cache = ZoneOffsetCache.of(ZoneId.of("Europe/Berlin"), 2017, 2017);
+
+    long transition = Instant.parse("2017-10-29T01:00:00Z").toEpochMilli();
+
+    assertThat(cache.offsetSecondsOfEpochMilli(transition - 1L)).isEqualTo(7_200);
+    assertThat(cache.offsetSecondsOfEpochMilli(transition)).isEqualTo(3_600);
+  }
+
+  @Test
+  public void toLocalEpochSecond_() {
+    ZoneOffsetCache cache = ZoneOffsetCache.of(ZoneId.of("Europe/Berlin"), 2017, 2017);
+
+    assertThat(cache.toLocalEpochSecond(FIXED_INSTANT.getEpochSecond()))
+        .isEqualTo(FIXED_INSTANT.getEpochSecond() + 7_200L);
+  }
+
+  @Test
+  public void zone_() {
+    ZoneId zone = ZoneId.of("Europe/Berlin");
+
+    assertThat(ZoneOffsetCache.of(zone, 2017, 2018).zone()).isSameAs(zone);
+    assertThat(ZoneOffsetCache.of(zone, 2017, 2018))
+        .hasToString("ZoneOffsetCache(Europe/Berlin, 2017..2018)");
+  }
+}